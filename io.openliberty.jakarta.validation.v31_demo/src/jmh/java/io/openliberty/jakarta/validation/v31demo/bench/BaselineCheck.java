@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bench;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonWriter;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Compares a JMH JSON result file with the stored baseline and reports throughput, p99 latency
+ * and allocation regressions.
+ *
+ * <pre>
+ * BaselineCheck &lt;jmh-result.json&gt; &lt;baseline.json&gt; [tolerancePercent] [failOnRegression] [updateBaseline]
+ * </pre>
+ */
+public class BaselineCheck {
+
+    /**
+     * Allocation differences below this many bytes per operation are treated as noise.
+     */
+    private static final double ALLOCATION_SLACK_BYTES = 16;
+
+    /**
+     * Summary of one benchmark method, combining its throughput and sample-time runs.
+     */
+    private static final class Summary {
+        double throughput = Double.NaN;
+        String throughputUnit = "";
+        double p99 = Double.NaN;
+        String p99Unit = "";
+        double allocBytesPerOp = Double.NaN;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineCheck <jmh-result.json> <baseline.json> [tolerancePercent] [failOnRegression] [updateBaseline]");
+            System.exit(2);
+        }
+        Path resultFile = Path.of(args[0]);
+        Path baselineFile = Path.of(args[1]);
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) / 100.0 : 0.2;
+        boolean failOnRegression = args.length > 3 && Boolean.parseBoolean(args[3]);
+        boolean updateBaseline = args.length > 4 && Boolean.parseBoolean(args[4]);
+
+        Map<String, Summary> current = readResults(resultFile);
+        print(current);
+
+        if (updateBaseline || !Files.exists(baselineFile)) {
+            writeBaseline(baselineFile, current);
+            System.out.println("Baseline written to " + baselineFile);
+            return;
+        }
+
+        List<String> regressions = compare(readBaseline(baselineFile), current, tolerance);
+        if (regressions.isEmpty()) {
+            System.out.println("No regressions against " + baselineFile + " (tolerance " + Math.round(tolerance * 100) + "%)");
+            return;
+        }
+        for (String regression : regressions) {
+            System.out.println("REGRESSION: " + regression);
+        }
+        if (failOnRegression) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Summary> readResults(Path resultFile) throws IOException {
+        JsonArray runs;
+        try (Reader reader = Files.newBufferedReader(resultFile, StandardCharsets.UTF_8)) {
+            runs = Json.createReader(reader).readArray();
+        }
+
+        Map<String, Summary> summaries = new TreeMap<>();
+        for (JsonValue value : runs) {
+            JsonObject run = value.asJsonObject();
+            Summary summary = summaries.computeIfAbsent(name(run), k -> new Summary());
+            JsonObject primary = run.getJsonObject("primaryMetric");
+            switch (run.getString("mode")) {
+                case "thrpt":
+                    summary.throughput = primary.getJsonNumber("score").doubleValue();
+                    summary.throughputUnit = primary.getString("scoreUnit");
+                    break;
+                case "sample":
+                    summary.p99 = primary.getJsonObject("scorePercentiles").getJsonNumber("99.0").doubleValue();
+                    summary.p99Unit = primary.getString("scoreUnit");
+                    break;
+                default:
+                    break;
+            }
+            JsonObject secondary = run.getJsonObject("secondaryMetrics");
+            if (secondary != null && Double.isNaN(summary.allocBytesPerOp)) {
+                for (Map.Entry<String, JsonValue> metric : secondary.entrySet()) {
+                    // Older JMH versions prefix profiler metrics with a middle dot
+                    if (metric.getKey().endsWith("gc.alloc.rate.norm")) {
+                        summary.allocBytesPerOp = metric.getValue().asJsonObject().getJsonNumber("score").doubleValue();
+                    }
+                }
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * @return The benchmark name, followed by its parameters if it has any, e.g. <code>Bench.method:size=1000</code>
+     */
+    private static String name(JsonObject run) {
+        JsonObject params = run.getJsonObject("params");
+        if (params == null) {
+            return run.getString("benchmark");
+        }
+        StringBuilder name = new StringBuilder(run.getString("benchmark"));
+        char separator = ':';
+        for (String param : new TreeMap<>(params).keySet()) {
+            name.append(separator).append(param).append('=').append(params.getString(param));
+            separator = ',';
+        }
+        return name.toString();
+    }
+
+    private static Map<String, Summary> readBaseline(Path baselineFile) throws IOException {
+        JsonObject benchmarks;
+        try (Reader reader = Files.newBufferedReader(baselineFile, StandardCharsets.UTF_8)) {
+            benchmarks = Json.createReader(reader).readObject().getJsonObject("benchmarks");
+        }
+
+        Map<String, Summary> summaries = new TreeMap<>();
+        for (Map.Entry<String, JsonValue> entry : benchmarks.entrySet()) {
+            JsonObject json = entry.getValue().asJsonObject();
+            Summary summary = new Summary();
+            summary.throughput = number(json, "throughput");
+            summary.throughputUnit = json.getString("throughputUnit", "");
+            summary.p99 = number(json, "p99");
+            summary.p99Unit = json.getString("p99Unit", "");
+            summary.allocBytesPerOp = number(json, "allocBytesPerOp");
+            summaries.put(entry.getKey(), summary);
+        }
+        return summaries;
+    }
+
+    private static double number(JsonObject json, String name) {
+        JsonValue value = json.get(name);
+        return value instanceof JsonNumber ? ((JsonNumber) value).doubleValue() : Double.NaN;
+    }
+
+    private static void writeBaseline(Path baselineFile, Map<String, Summary> summaries) throws IOException {
+        JsonObjectBuilder benchmarks = Json.createObjectBuilder();
+        for (Map.Entry<String, Summary> entry : summaries.entrySet()) {
+            Summary summary = entry.getValue();
+            JsonObjectBuilder json = Json.createObjectBuilder();
+            if (!Double.isNaN(summary.throughput)) {
+                json.add("throughput", summary.throughput).add("throughputUnit", summary.throughputUnit);
+            }
+            if (!Double.isNaN(summary.p99)) {
+                json.add("p99", summary.p99).add("p99Unit", summary.p99Unit);
+            }
+            if (!Double.isNaN(summary.allocBytesPerOp)) {
+                json.add("allocBytesPerOp", summary.allocBytesPerOp);
+            }
+            benchmarks.add(entry.getKey(), json);
+        }
+
+        Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(baselineFile, StandardCharsets.UTF_8);
+             JsonWriter json = Json.createWriterFactory(Map.of(JsonGenerator.PRETTY_PRINTING, true)).createWriter(writer)) {
+            json.writeObject(Json.createObjectBuilder().add("benchmarks", benchmarks).build());
+        }
+    }
+
+    private static List<String> compare(Map<String, Summary> baseline, Map<String, Summary> current, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Summary> entry : current.entrySet()) {
+            Summary before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            Summary now = entry.getValue();
+            String name = entry.getKey();
+            if (now.throughput < before.throughput * (1 - tolerance)) {
+                regressions.add(String.format("%s throughput %.3f %s, baseline %.3f", name, now.throughput, now.throughputUnit, before.throughput));
+            }
+            if (now.p99 > before.p99 * (1 + tolerance)) {
+                regressions.add(String.format("%s p99 %.3f %s, baseline %.3f", name, now.p99, now.p99Unit, before.p99));
+            }
+            if (now.allocBytesPerOp > before.allocBytesPerOp * (1 + tolerance) + ALLOCATION_SLACK_BYTES) {
+                regressions.add(String.format("%s allocation %.0f B/op, baseline %.0f", name, now.allocBytesPerOp, before.allocBytesPerOp));
+            }
+        }
+        return regressions;
+    }
+
+    private static void print(Map<String, Summary> summaries) {
+        System.out.printf("%-60s %14s %14s %12s%n", "Benchmark", "Throughput", "p99", "Alloc B/op");
+        for (Map.Entry<String, Summary> entry : summaries.entrySet()) {
+            Summary summary = entry.getValue();
+            String name = entry.getKey().substring(entry.getKey().lastIndexOf('.', entry.getKey().lastIndexOf('.') - 1) + 1);
+            System.out.printf("%-60s %14s %14s %12.0f%n", name,
+                              String.format("%.3f %s", summary.throughput, summary.throughputUnit),
+                              String.format("%.3f %s", summary.p99, summary.p99Unit),
+                              summary.allocBytesPerOp);
+        }
+    }
+}
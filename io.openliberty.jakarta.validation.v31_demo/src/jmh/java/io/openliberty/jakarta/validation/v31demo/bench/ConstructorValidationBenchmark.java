@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bench;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.openliberty.jakarta.validation.v31demo.model.EmailAddress;
+import io.openliberty.jakarta.validation.v31demo.model.Employee;
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import io.openliberty.jakarta.validation.v31demo.service.ConstructorValidation;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Compares building an <code>Employee</code> and then validating it with validating its
+ * constructor arguments through {@link ConstructorValidation} and building it only if they are
+ * valid. The setup checks that both
+ * report the same violations for each input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConstructorValidationBenchmark {
+
+    /**
+     * <code>valid</code>, <code>invalidId</code> (a null employee id) or <code>invalidEmail</code>
+     * (an address too short and not an email)
+     */
+    @Param({ "valid", "invalidId", "invalidEmail" })
+    public String input;
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private ConstructorValidation constructors;
+
+    private String empid;
+    private String email;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        constructors = new ConstructorValidation(validator);
+        empid = input.equals("invalidId") ? null : "E1001";
+        email = input.equals("invalidEmail") ? "ab" : "emp1@example.com";
+
+        Object constructed = atConstruction();
+        List<Violation> violations = constructed instanceof Employee ? List.of() : (List<Violation>) constructed;
+        if (!paths(ConstructorValidation.toViolations(postHoc())).equals(paths(violations))) {
+            throw new IllegalStateException("Constructor validation differs from validating the record for " + input);
+        }
+    }
+
+    private static Set<String> paths(List<Violation> violations) {
+        Set<String> paths = new HashSet<>();
+        for (Violation violation : violations) {
+            paths.add(violation.path() + " " + violation.constraintName() + ": " + violation.message());
+        }
+        return paths;
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Employee>> postHoc() {
+        return validator.validate(new Employee(empid, new EmailAddress(email)));
+    }
+
+    /**
+     * @return The employee, or the violations of its constructor arguments
+     */
+    @Benchmark
+    public Object atConstruction() {
+        EmailAddress address = new EmailAddress(email);
+        Set<ConstraintViolation<Employee>> violations = constructors.validate(Employee.class, new Object[] { empid, address });
+        if (!violations.isEmpty()) {
+            return ConstructorValidation.toViolations(violations);
+        }
+        return new Employee(empid, address);
+    }
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hibernate.validator.internal.constraintvalidators.AbstractEmailValidator;
+
+import io.openliberty.jakarta.validation.v31demo.fastpath.EmailCheck;
+import io.openliberty.jakarta.validation.v31demo.model.EmailAddress;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+
+/**
+ * Checks that the ASCII fast path of <code>@Email</code> accepts and rejects exactly the addresses
+ * Hibernate Validator does, over the hand-written corpus and a seeded set of generated addresses
+ * aimed at the character classes and length limits the scan decides.
+ * <p>
+ * Also checks that <code>META-INF/validation/constraints.xml</code> replaces the provider's
+ * validator without changing the reported violations.
+ *
+ * <pre>
+ * EmailConformanceCheck &lt;email-corpus.txt&gt; [generatedCount]
+ * </pre>
+ */
+public class EmailConformanceCheck {
+
+    private static final String LOCAL_CHARS = "abcXYZ09.-_+!#$%&'*/=?^`{|}~\"\\ @(),:;<>[]üé例\u0000\t";
+    private static final String DOMAIN_CHARS = "abcXYZ09.-_!#$%&'*+/=?^`{|}~[]: @\"üé例。";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: EmailConformanceCheck <email-corpus.txt> [generatedCount]");
+            System.exit(2);
+        }
+        int generatedCount = args.length > 1 ? Integer.parseInt(args[1]) : 500_000;
+
+        List<String> addresses = new ArrayList<>();
+        for (String line : Files.readAllLines(Path.of(args[0]), StandardCharsets.UTF_8)) {
+            if (!line.isBlank() && !line.startsWith("#")) {
+                addresses.add(line);
+            }
+        }
+        addresses.addAll(generate(new Random(31), generatedCount));
+
+        AbstractEmailValidator<Email> reference = new AbstractEmailValidator<>() {
+        };
+        List<String> differences = new ArrayList<>();
+        int accepted = 0;
+        for (String address : addresses) {
+            boolean expected = reference.isValid(address, null);
+            if (EmailCheck.isValid(address) != expected) {
+                differences.add((expected ? "rejected: " : "accepted: ") + address);
+            }
+            if (expected) {
+                accepted++;
+            }
+        }
+
+        differences.addAll(checkMapping());
+
+        System.out.println("@Email fast path: " + addresses.size() + " addresses, " + accepted + " accepted, "
+                           + differences.size() + " differences");
+        if (!differences.isEmpty()) {
+            differences.stream().limit(100).forEach(System.out::println);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Addresses built from local parts and domains of random length over characters the scan
+     * treats differently, so both the fast path and the fallback are exercised
+     */
+    static List<String> generate(Random random, int count) {
+        List<String> addresses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder address = new StringBuilder();
+            appendRandom(random, address, LOCAL_CHARS, lengthNear(random, 64));
+            if (random.nextInt(20) != 0) {
+                address.append('@');
+            }
+            if (random.nextInt(10) == 0) {
+                address.append(random.nextBoolean() ? "[192.168.0." + random.nextInt(300) + "]" : "[IPv6:::" + random.nextInt(100) + "]");
+            } else {
+                int labels = 1 + random.nextInt(4);
+                for (int l = 0; l < labels; l++) {
+                    if (l > 0) {
+                        address.append('.');
+                    }
+                    appendRandom(random, address, DOMAIN_CHARS, lengthNear(random, 63));
+                }
+                if (random.nextInt(8) == 0) {
+                    appendRandom(random, address, DOMAIN_CHARS, 200 + random.nextInt(80));
+                }
+            }
+            addresses.add(address.toString());
+        }
+        return addresses;
+    }
+
+    /**
+     * A short length most of the time, otherwise one near the limit
+     */
+    private static int lengthNear(Random random, int limit) {
+        return random.nextInt(4) == 0 ? limit - 2 + random.nextInt(5) : random.nextInt(12);
+    }
+
+    /**
+     * Mostly letters, with a character from the given set one time in four
+     */
+    private static void appendRandom(Random random, StringBuilder out, String special, int length) {
+        for (int i = 0; i < length; i++) {
+            out.append(random.nextInt(4) == 0 ? special.charAt(random.nextInt(special.length()))
+                            : (char) ('a' + random.nextInt(26)));
+        }
+    }
+
+    private static List<String> checkMapping() throws IOException {
+        List<String> differences = new ArrayList<>();
+        try (InputStream mapping = EmailConformanceCheck.class.getResourceAsStream("/META-INF/validation/constraints.xml");
+                        ValidatorFactory fast = Validation.byDefaultProvider().configure().addMapping(mapping).buildValidatorFactory();
+                        ValidatorFactory standard = Validation.buildDefaultValidatorFactory()) {
+            Validator fastValidator = fast.getValidator();
+            Validator standardValidator = standard.getValidator();
+            for (String value : new String[] { "emp1@example.com", "invalid", "\"a b\"@example.com", "a@b", "ü@example.com", "x@[1.2.3.4]" }) {
+                Set<String> expected = messages(standardValidator.validate(new EmailAddress(value)));
+                Set<String> actual = messages(fastValidator.validate(new EmailAddress(value)));
+                if (!expected.equals(actual)) {
+                    differences.add("mapped validator reports " + actual + " instead of " + expected + " for " + value);
+                }
+            }
+        }
+        return differences;
+    }
+
+    private static Set<String> messages(Set<ConstraintViolation<EmailAddress>> violations) {
+        Set<String> messages = new TreeSet<>();
+        for (ConstraintViolation<EmailAddress> violation : violations) {
+            messages.add(violation.getPropertyPath() + " " + violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName()
+                         + " " + violation.getMessage());
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.validator.internal.constraintvalidators.AbstractEmailValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.openliberty.jakarta.validation.v31demo.fastpath.EmailCheck;
+import io.openliberty.jakarta.validation.v31demo.model.EmailAddress;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+
+/**
+ * Compares the provider's regular expression <code>@Email</code> check with the ASCII fast path,
+ * on its own and through a full validation of <code>EmailAddress</code>, cycling through a
+ * million generated addresses of which about one in five is invalid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmailValidationBenchmark {
+
+    private static final int ADDRESSES = 1 << 20;
+
+    private final AbstractEmailValidator<Email> providerCheck = new AbstractEmailValidator<>() {
+    };
+
+    private ValidatorFactory providerFactory;
+    private ValidatorFactory fastPathFactory;
+    private Validator providerValidator;
+    private Validator fastPathValidator;
+
+    private String[] values;
+    private EmailAddress[] addresses;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(17);
+        values = new String[ADDRESSES];
+        addresses = new EmailAddress[ADDRESSES];
+        for (int i = 0; i < ADDRESSES; i++) {
+            String value = "user." + Integer.toString(random.nextInt(1_000_000), 36) + "@mail" + random.nextInt(1000) + ".example.com";
+            switch (random.nextInt(10)) {
+                case 0:
+                    value = value.replace('@', '#');
+                    break;
+                case 1:
+                    value = value.replace(".example", "..example");
+                    break;
+                default:
+                    break;
+            }
+            values[i] = value;
+            addresses[i] = new EmailAddress(value);
+        }
+
+        providerFactory = Validation.buildDefaultValidatorFactory();
+        providerValidator = providerFactory.getValidator();
+        try (InputStream mapping = getClass().getResourceAsStream("/META-INF/validation/constraints.xml")) {
+            fastPathFactory = Validation.byDefaultProvider().configure().addMapping(mapping).buildValidatorFactory();
+        }
+        fastPathValidator = fastPathFactory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        providerFactory.close();
+        fastPathFactory.close();
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = (index + 1) & (ADDRESSES - 1);
+        return index;
+    }
+
+    @Benchmark
+    public boolean emailCheckProvider() {
+        return providerCheck.isValid(values[nextIndex()], null);
+    }
+
+    @Benchmark
+    public boolean emailCheckAsciiFastPath() {
+        return EmailCheck.isValid(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmailAddress>> validateEmailAddressProvider() {
+        return providerValidator.validate(addresses[nextIndex()]);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmailAddress>> validateEmailAddressAsciiFastPath() {
+        return fastPathValidator.validate(addresses[nextIndex()]);
+    }
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bench;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.openliberty.jakarta.validation.v31demo.fastpath.FastValidation;
+import io.openliberty.jakarta.validation.v31demo.model.EmailAddress;
+import io.openliberty.jakarta.validation.v31demo.model.Employee;
+import io.openliberty.jakarta.validation.v31demo.model.SignupForm;
+import io.openliberty.jakarta.validation.v31demo.model.ValidationOrder;
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Compares the provider with the validators generated at build time on the same records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeneratedValidatorBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private FastValidation fastValidation;
+
+    private final Employee validEmployee = new Employee("validId", new EmailAddress("emp1@example.com"));
+    private final Employee invalidEmailEmployee = new Employee("validId", new EmailAddress("invalid"));
+
+    private final SignupForm invalidSignupForm = new SignupForm("", 15);
+
+    @Setup
+    public void setup() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        fastValidation = new FastValidation(factory);
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Employee>> providerEmployeeValid() {
+        return validator.validate(validEmployee);
+    }
+
+    @Benchmark
+    public List<Violation> generatedEmployeeValid() {
+        return fastValidation.validate(validEmployee);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Employee>> providerEmployeeInvalidEmail() {
+        return validator.validate(invalidEmailEmployee);
+    }
+
+    @Benchmark
+    public List<Violation> generatedEmployeeInvalidEmail() {
+        return fastValidation.validate(invalidEmailEmployee);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SignupForm>> providerSignupFormSequenceInvalid() {
+        return validator.validate(invalidSignupForm, ValidationOrder.class);
+    }
+
+    @Benchmark
+    public List<Violation> generatedSignupFormSequenceInvalid() {
+        return fastValidation.validate(invalidSignupForm, ValidationOrder.class);
+    }
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bench;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.openliberty.jakarta.validation.v31demo.fastpath.FastValidation;
+import io.openliberty.jakarta.validation.v31demo.model.EmailAddress;
+import io.openliberty.jakarta.validation.v31demo.model.Employee;
+import io.openliberty.jakarta.validation.v31demo.model.FirstGroup;
+import io.openliberty.jakarta.validation.v31demo.model.Person;
+import io.openliberty.jakarta.validation.v31demo.model.SecondGroup;
+import io.openliberty.jakarta.validation.v31demo.model.SignupForm;
+import io.openliberty.jakarta.validation.v31demo.model.ValidationOrder;
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.groups.Default;
+
+/**
+ * Checks that the validators generated at build time report exactly the violations the provider
+ * reports, comparing path, message, constraint type, invalid value and groups for a corpus of
+ * records under every combination of groups the endpoints accept.
+ * <p>
+ * Exits with status 1 and lists the differences if any case disagrees.
+ */
+public class GeneratedValidatorDifferentialCheck {
+
+    private static final List<String> STRINGS = Arrays.asList(
+                    null, "", " ", "\t", "ab", "abc", "abcde", "abcdef", "John Doe", "invalid",
+                    "a@b", "emp1@example.com", "user@@example.com", "user.@example.com", ".user@example.com",
+                    "us..er@example.com", "first.last@example.com", "user+tag@example.co.uk", "a b@example.com",
+                    "\"quoted@at\"@example.com", "\"a\\\"b\"@example.com", "user@[192.168.0.1]",
+                    "user@[IPv6:2001:db8::1]", "user@[IPv6:nothex]", "user@example.com.", "user@-example.com",
+                    "user@exa-mple.com", "user@example..com", "user@", "@example.com", "ü@exämple.com",
+                    "user@例え.jp", "x".repeat(64) + "@example.com", "x".repeat(65) + "@example.com",
+                    "user@" + "d".repeat(63) + ".com", "user@" + "d".repeat(64) + ".com",
+                    "user@" + ("d".repeat(60) + ".").repeat(4) + "com", "a".repeat(95) + "@b.com",
+                    "a".repeat(96) + "@b.com");
+
+    private static final List<Class<?>[]> GROUPS = List.of(
+                    new Class<?>[] {},
+                    new Class<?>[] { Default.class },
+                    new Class<?>[] { FirstGroup.class },
+                    new Class<?>[] { SecondGroup.class },
+                    new Class<?>[] { ValidationOrder.class },
+                    new Class<?>[] { Default.class, FirstGroup.class },
+                    new Class<?>[] { FirstGroup.class, SecondGroup.class },
+                    new Class<?>[] { FirstGroup.class, ValidationOrder.class },
+                    new Class<?>[] { ValidationOrder.class, Default.class });
+
+    public static void main(String[] args) {
+        List<Record> corpus = corpus();
+        List<String> differences = new ArrayList<>();
+        int cases = 0;
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+            FastValidation fastValidation = new FastValidation(factory);
+            for (Record record : corpus) {
+                if (!FastValidation.supports(record.getClass())) {
+                    differences.add("No generated validator for " + record.getClass().getSimpleName());
+                    continue;
+                }
+                for (Class<?>[] groups : GROUPS) {
+                    cases++;
+                    Set<Violation> expected = new HashSet<>();
+                    for (ConstraintViolation<Record> violation : validator.validate(record, groups)) {
+                        expected.add(Violation.of(violation));
+                    }
+                    List<Violation> actual = fastValidation.validate(record, groups);
+                    if (actual.size() != expected.size() || !expected.equals(new HashSet<>(actual))) {
+                        differences.add(record + " " + names(groups) + "\n    provider:  " + expected + "\n    generated: " + actual);
+                    }
+                }
+            }
+        }
+
+        System.out.println("Generated validators: " + cases + " cases, " + differences.size() + " differences");
+        if (!differences.isEmpty()) {
+            differences.forEach(System.out::println);
+            System.exit(1);
+        }
+    }
+
+    private static List<Record> corpus() {
+        List<Record> corpus = new ArrayList<>();
+        for (String value : STRINGS) {
+            corpus.add(new Person(value));
+            corpus.add(new EmailAddress(value));
+            corpus.add(new Employee(value, new EmailAddress(value)));
+            corpus.add(new Employee("e1", new EmailAddress(value)));
+        }
+        corpus.add(new Employee(null, null));
+        corpus.add(new Employee("e1", null));
+        for (String firstName : Arrays.asList(null, "", " ", "John")) {
+            for (int age : new int[] { Integer.MIN_VALUE, -1, 0, 17, 18, 99, Integer.MAX_VALUE }) {
+                corpus.add(new SignupForm(firstName, age));
+            }
+        }
+        return corpus;
+    }
+
+    private static String names(Class<?>[] groups) {
+        StringBuilder names = new StringBuilder("[");
+        for (Class<?> group : groups) {
+            names.append(names.length() == 1 ? "" : ", ").append(group.getSimpleName());
+        }
+        return names.append(']').toString();
+    }
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bench;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.openliberty.jakarta.validation.v31demo.fastpath.CachingMessageInterpolator;
+import io.openliberty.jakarta.validation.v31demo.model.EmailAddress;
+import io.openliberty.jakarta.validation.v31demo.model.Employee;
+import io.openliberty.jakarta.validation.v31demo.model.SignupForm;
+import io.openliberty.jakarta.validation.v31demo.model.ValidationOrder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+/**
+ * Compares the provider's message interpolator with {@link CachingMessageInterpolator} on the
+ * invalid-input path. The setup checks that both produce the same messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessageInterpolationBenchmark {
+
+    private ValidatorFactory providerFactory;
+    private ValidatorFactory cachingFactory;
+    private Validator provider;
+    private Validator caching;
+
+    private MessageInterpolator providerInterpolator;
+    private MessageInterpolator cachingInterpolator;
+    private String sizeTemplate;
+    private MessageInterpolator.Context sizeContext;
+
+    // @NotNull on empid, @Size and @Email on the address
+    private final Employee invalidEmployee = new Employee(null, new EmailAddress("ab"));
+    private final SignupForm invalidSignupForm = new SignupForm("", 15);
+
+    @Setup
+    public void setup() {
+        providerFactory = Validation.buildDefaultValidatorFactory();
+        provider = providerFactory.getValidator();
+        providerInterpolator = providerFactory.getMessageInterpolator();
+        cachingInterpolator = new CachingMessageInterpolator(providerInterpolator);
+        cachingFactory = Validation.byDefaultProvider().configure().messageInterpolator(cachingInterpolator).buildValidatorFactory();
+        caching = cachingFactory.getValidator();
+
+        if (!messages(provider.validate(invalidEmployee)).equals(messages(caching.validate(invalidEmployee)))
+            || !messages(provider.validate(invalidSignupForm, ValidationOrder.class))
+                            .equals(messages(caching.validate(invalidSignupForm, ValidationOrder.class)))) {
+            throw new IllegalStateException("Cached messages differ from the provider's");
+        }
+
+        for (ConstraintViolation<Employee> violation : provider.validate(invalidEmployee)) {
+            if (violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName().equals("Size")) {
+                sizeTemplate = violation.getMessageTemplate();
+                sizeContext = new MessageInterpolator.Context() {
+                    @Override
+                    public ConstraintDescriptor<?> getConstraintDescriptor() {
+                        return violation.getConstraintDescriptor();
+                    }
+
+                    @Override
+                    public Object getValidatedValue() {
+                        return violation.getInvalidValue();
+                    }
+
+                    @Override
+                    public <T> T unwrap(Class<T> type) {
+                        throw new ValidationException("Type " + type.getName() + " not supported");
+                    }
+                };
+            }
+        }
+    }
+
+    private static Set<String> messages(Set<? extends ConstraintViolation<?>> violations) {
+        Set<String> messages = new HashSet<>();
+        for (ConstraintViolation<?> violation : violations) {
+            messages.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return messages;
+    }
+
+    @TearDown
+    public void tearDown() {
+        cachingFactory.close();
+        providerFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Employee>> providerEmployeeInvalid() {
+        return provider.validate(invalidEmployee);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Employee>> cachingEmployeeInvalid() {
+        return caching.validate(invalidEmployee);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SignupForm>> providerSignupFormSequenceInvalid() {
+        return provider.validate(invalidSignupForm, ValidationOrder.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SignupForm>> cachingSignupFormSequenceInvalid() {
+        return caching.validate(invalidSignupForm, ValidationOrder.class);
+    }
+
+    @Benchmark
+    public String providerSizeMessage() {
+        return providerInterpolator.interpolate(sizeTemplate, sizeContext);
+    }
+
+    @Benchmark
+    public String cachingSizeMessage() {
+        return cachingInterpolator.interpolate(sizeTemplate, sizeContext);
+    }
+}
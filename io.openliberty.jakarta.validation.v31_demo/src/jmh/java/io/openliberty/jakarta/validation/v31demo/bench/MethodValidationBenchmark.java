@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bench;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.openliberty.jakarta.validation.v31demo.model.Person;
+import io.openliberty.jakarta.validation.v31demo.service.MethodValidation;
+import io.openliberty.jakarta.validation.v31demo.service.PersonService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.executable.ExecutableValidator;
+
+/**
+ * Compares valid calls of a {@link PersonService} method made directly, validated by hand as
+ * the parameters demo does, with a <code>getMethod</code> lookup and the executable validator on
+ * each call, and validated by {@link MethodValidation} as the interceptor does. The CDI
+ * interceptor chain itself is not included. The setup checks that the validated calls reject an
+ * invalid argument of the constrained method and that the unconstrained one is skipped. In the
+ * application the unconstrained method is not intercepted at all, so its <code>intercepted</code>
+ * case applies only to methods bound to the interceptor explicitly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MethodValidationBenchmark {
+
+    /**
+     * <code>constrained</code> (<code>checkNameSize</code>, with a parameter constraint) or
+     * <code>unconstrained</code> (<code>greet</code>, without constraints)
+     */
+    @Param({ "constrained", "unconstrained" })
+    public String method;
+
+    private ValidatorFactory factory;
+    private ExecutableValidator executables;
+    private MethodValidation validation;
+
+    private PersonService service;
+    private String name;
+    private Class<?> parameterType;
+    private Object[] args;
+    private Method target;
+    private Callable<Object> call;
+
+    @Setup
+    public void setup() throws Exception {
+        factory = Validation.buildDefaultValidatorFactory();
+        Validator validator = factory.getValidator();
+        executables = validator.forExecutables();
+        validation = new MethodValidation(validator);
+        service = new PersonService();
+
+        boolean constrained = method.equals("constrained");
+        name = constrained ? "checkNameSize" : "greet";
+        parameterType = constrained ? String.class : Person.class;
+        target = PersonService.class.getMethod(name, parameterType);
+        call = constrained ? () -> service.checkNameSize((String) args[0]) : () -> service.greet((Person) args[0]);
+        args = new Object[] { constrained ? "Maxine" : new Person("Maxine") };
+
+        if (validation.isConstrained(target) != constrained) {
+            throw new IllegalStateException(name + " should " + (constrained ? "" : "not ") + "be validated");
+        }
+        if (constrained) {
+            try {
+                validation.invoke(service, target, new Object[] { "Maxallowedvaluesis10" }, () -> null);
+                throw new IllegalStateException("The invalid argument of " + name + " was accepted");
+            } catch (ConstraintViolationException e) {
+                if (e.getConstraintViolations().size() != 1
+                                || executables.validateParameters(service, target, new Object[] { "Maxallowedvaluesis10" }).size() != 1) {
+                    throw new IllegalStateException("Unexpected violations of " + name + ": " + e.getConstraintViolations());
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Object direct() throws Exception {
+        return call.call();
+    }
+
+    @Benchmark
+    public Object manual() throws Exception {
+        Method method = PersonService.class.getMethod(name, parameterType);
+        Set<ConstraintViolation<PersonService>> violations = executables.validateParameters(service, method, args);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        Object result = call.call();
+        violations = executables.validateReturnValue(service, method, result);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object intercepted() throws Exception {
+        return validation.invoke(service, target, args, call);
+    }
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bench;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.openliberty.jakarta.validation.v31demo.model.Department;
+import io.openliberty.jakarta.validation.v31demo.model.EmailAddress;
+import io.openliberty.jakarta.validation.v31demo.model.Employee;
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import io.openliberty.jakarta.validation.v31demo.service.ParallelCascadeValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Compares the provider's cascade into a large list of employees with the parallel cascade.
+ * The setup checks that both report the same violations, that the parallel cascade reports them
+ * in element order and that it ran on the pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelCascadeBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int employees;
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private ForkJoinPool pool;
+    private ParallelCascadeValidator cascade;
+    private Department department;
+
+    @Setup
+    public void setup() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        cascade = new ParallelCascadeValidator(pool, 1000);
+
+        List<Employee> list = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            // One employee in ten has an invalid email address
+            list.add(new Employee("E" + i, new EmailAddress(i % 10 == 0 ? "employee" + i : "employee" + i + "@example.com")));
+        }
+        department = new Department("Engineering", list);
+
+        Set<String> expected = new HashSet<>();
+        for (ConstraintViolation<Department> violation : provider()) {
+            expected.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        Set<String> actual = new HashSet<>();
+        List<String> paths = new ArrayList<>();
+        for (Violation violation : parallel()) {
+            actual.add(violation.path() + ": " + violation.message());
+            paths.add(violation.path());
+        }
+        if (!expected.equals(actual) || expected.size() != employees / 10) {
+            throw new IllegalStateException("Parallel cascade reported " + actual.size() + " violations, the provider "
+                                            + expected.size());
+        }
+        for (int i = 0; i < paths.size(); i++) {
+            if (!paths.get(i).equals("employees[" + i * 10 + "].email.value")) {
+                throw new IllegalStateException("Violation " + i + " of the parallel cascade is for " + paths.get(i));
+            }
+        }
+        if (pool.getPoolSize() == 0) {
+            throw new IllegalStateException("The parallel cascade did not run on the pool");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Department>> provider() {
+        return validator.validate(department);
+    }
+
+    @Benchmark
+    public List<Violation> parallel() {
+        return cascade.validate(validator, null, department);
+    }
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bench;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.openliberty.jakarta.validation.v31demo.model.EmailAddress;
+import io.openliberty.jakarta.validation.v31demo.model.Employee;
+import io.openliberty.jakarta.validation.v31demo.model.Person;
+import io.openliberty.jakarta.validation.v31demo.model.SignupForm;
+import io.openliberty.jakarta.validation.v31demo.model.ValidationOrder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Benchmarks for each validation operation performed by the demo servlet, using the same
+ * record instances and arguments as the demos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator validator;
+
+    private Method checkNameSize;
+    private Method getName;
+
+    private final Person validPerson = new Person("SampleName");
+    private final Person nullPerson = new Person(null);
+    private final Person shortPerson = new Person("x");
+    private final Object[] checkNameSizeParameters = { "Maxallowedvaluesis10" };
+
+    private final Employee validEmployee = new Employee("validId", new EmailAddress("emp1@example.com"));
+    private final Employee invalidEmailEmployee = new Employee("validId", new EmailAddress("invalid"));
+
+    private final SignupForm validSignupForm = new SignupForm("John Doe", 25);
+    private final SignupForm invalidSignupForm = new SignupForm("", 15);
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        checkNameSize = Person.class.getMethod("checkNameSize", String.class);
+        getName = Person.class.getMethod("getName");
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Person>> validatePersonValid() {
+        return validator.validate(validPerson);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Person>> validatePersonInvalid() {
+        return validator.validate(nullPerson);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Person>> validatePropertyPersonName() {
+        return validator.validateProperty(nullPerson, "name");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Person>> validateValuePersonName() {
+        return validator.validateValue(Person.class, "name", null);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Person>> validateParametersCheckNameSize() {
+        return validator.forExecutables().validateParameters(shortPerson, checkNameSize, checkNameSizeParameters);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Person>> validateReturnValueGetName() {
+        return validator.forExecutables().validateReturnValue(shortPerson, getName, shortPerson.getName());
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Employee>> validateEmployeeCascadedValid() {
+        return validator.validate(validEmployee);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Employee>> validateEmployeeCascadedInvalidEmail() {
+        return validator.validate(invalidEmailEmployee);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SignupForm>> validateSignupFormSequenceValid() {
+        return validator.validate(validSignupForm, ValidationOrder.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SignupForm>> validateSignupFormSequenceInvalid() {
+        return validator.validate(invalidSignupForm, ValidationOrder.class);
+    }
+}
@@ -0,0 +1,388 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.load;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import io.openliberty.jakarta.validation.v31demo.service.LatencyHistogram;
+import jakarta.json.Json;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Drives the demo and validation endpoints of a running server at a constant arrival rate and
+ * writes a latency and throughput report:
+ *
+ * <pre>
+ * java LoadGenerator [--baseUrl http://localhost:9080] [--rate 200] [--duration 30] [--warmup 10]
+ *                    [--scenario all|demos|validate] [--maxOutstanding 2000] [--report load-report.json]
+ * </pre>
+ *
+ * The load is an open model: requests are sent at their scheduled times whether or not earlier
+ * ones have completed, as independent clients would send them, and each latency is measured from
+ * the scheduled time rather than the actual send time, so a stalled server is not hidden by a
+ * stalled generator. The requests of the scenario are sent in turn. Requests are sent with the
+ * JDK {@link HttpClient}, whose work runs on virtual threads when the JDK has them. A request
+ * scheduled while <code>maxOutstanding</code> requests are incomplete is not sent and is counted
+ * as dropped. Results of the warm-up are discarded.
+ * <p>
+ * If the options are invalid or the run fails, the failure is written to the report as its
+ * <code>error</code> and the generator exits with status 2 or 1, so that a build can stop the
+ * server before {@link LoadReportCheck} fails it.
+ */
+public final class LoadGenerator {
+
+    private static final String DEFAULT_REPORT = "load-report.json";
+
+    /**
+     * One kind of request the generator sends.
+     */
+    private record Target(String name, String method, String path, String body) {
+    }
+
+    /**
+     * @param baseUrl The server to drive
+     * @param rate Requests per second
+     * @param durationSeconds Seconds of measured load
+     * @param warmupSeconds Seconds of load before measuring
+     * @param scenario Which endpoints to drive
+     * @param maxOutstanding The most requests that may be incomplete at once
+     * @param report The file the JSON report is written to
+     */
+    record Options(URI baseUrl, int rate, int durationSeconds, int warmupSeconds, String scenario, int maxOutstanding,
+                   Path report) {
+
+        static Options parse(String... args) {
+            URI baseUrl = URI.create("http://localhost:9080");
+            int rate = 200;
+            int duration = 30;
+            int warmup = 10;
+            String scenario = "all";
+            int maxOutstanding = 2000;
+            Path report = Path.of(DEFAULT_REPORT);
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Missing value for " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--baseUrl" -> baseUrl = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+                    case "--rate" -> rate = positive(args[i], value);
+                    case "--duration" -> duration = positive(args[i], value);
+                    case "--warmup" -> warmup = Integer.parseInt(value);
+                    case "--scenario" -> scenario = value;
+                    case "--maxOutstanding" -> maxOutstanding = positive(args[i], value);
+                    case "--report" -> report = Path.of(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            if (!List.of("all", "demos", "validate").contains(scenario)) {
+                throw new IllegalArgumentException("Unknown scenario " + scenario);
+            }
+            return new Options(baseUrl, rate, duration, Math.max(0, warmup), scenario, maxOutstanding, report);
+        }
+
+        private static int positive(String option, String value) {
+            int number = Integer.parseInt(value);
+            if (number <= 0) {
+                throw new IllegalArgumentException(option + " must be positive");
+            }
+            return number;
+        }
+    }
+
+    /**
+     * The measurements of one target. Completions arrive on several threads, so every access
+     * holds the lock of the instance.
+     */
+    private static final class Stats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final Map<String, Long> outcomes = new TreeMap<>();
+        long sent;
+        long dropped;
+
+        synchronized void sent() {
+            sent++;
+        }
+
+        synchronized void dropped() {
+            dropped++;
+        }
+
+        synchronized void completed(String outcome, long latencyNanos) {
+            latency.record(latencyNanos);
+            outcomes.merge(outcome, 1L, Long::sum);
+        }
+    }
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: LoadGenerator [--baseUrl URL] [--rate N] [--duration SECONDS] [--warmup SECONDS]");
+            System.err.println("                     [--scenario all|demos|validate] [--maxOutstanding N] [--report FILE]");
+            reportFailure(reportOption(args), "Invalid options: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+        try {
+            run(options);
+        } catch (Exception | Error e) {
+            e.printStackTrace();
+            reportFailure(options.report(), e.toString());
+            System.exit(1);
+        }
+    }
+
+    private static void run(Options options) throws IOException {
+        // A report left by an earlier run must not pass for this one if it does not finish
+        Files.deleteIfExists(options.report());
+        List<Target> targets = targets(options.scenario());
+
+        ExecutorService executor = executor();
+        HttpClient client = HttpClient.newBuilder().executor(executor).connectTimeout(Duration.ofSeconds(10)).build();
+        try {
+            if (options.warmupSeconds() > 0) {
+                System.out.printf(Locale.ROOT, "Warming up at %d requests/s for %d s%n", options.rate(), options.warmupSeconds());
+                drive(client, options, targets, options.warmupSeconds());
+            }
+            System.out.printf(Locale.ROOT, "Measuring at %d requests/s for %d s%n", options.rate(), options.durationSeconds());
+            long start = System.nanoTime();
+            Map<Target, Stats> stats = drive(client, options, targets, options.durationSeconds());
+            long elapsed = System.nanoTime() - start;
+            report(options, stats, elapsed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return The report file named by options that could not be parsed
+     */
+    private static Path reportOption(String[] args) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals("--report")) {
+                return Path.of(args[i + 1]);
+            }
+        }
+        return Path.of(DEFAULT_REPORT);
+    }
+
+    /**
+     * Write a report holding only the failure of the run, replacing the report of an earlier run
+     */
+    private static void reportFailure(Path report, String error) {
+        try (JsonGenerator json = Json.createGenerator(Files.newBufferedWriter(report))) {
+            json.writeStartObject();
+            json.write("error", error);
+            json.writeEnd();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Cannot write " + report + ": " + e);
+        }
+    }
+
+    /**
+     * Send requests at the configured rate for a number of seconds and wait for them to complete
+     */
+    private static Map<Target, Stats> drive(HttpClient client, Options options, List<Target> targets, int seconds) {
+        Map<Target, Stats> stats = new LinkedHashMap<>();
+        for (Target target : targets) {
+            stats.put(target, new Stats());
+        }
+        // Counted rather than registered with a Phaser, which allows only 65535 parties
+        AtomicInteger outstanding = new AtomicInteger();
+        Object completed = new Object();
+        long interval = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long count = (long) options.rate() * seconds;
+        long start = System.nanoTime();
+
+        for (long i = 0; i < count; i++) {
+            long scheduled = start + i * interval;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Target target = targets.get((int) (i % targets.size()));
+            Stats targetStats = stats.get(target);
+            if (outstanding.get() >= options.maxOutstanding()) {
+                targetStats.dropped();
+                continue;
+            }
+            outstanding.incrementAndGet();
+            targetStats.sent();
+            client.sendAsync(request(options.baseUrl(), target), HttpResponse.BodyHandlers.discarding())
+                            .whenComplete((response, failure) -> {
+                                long latency = System.nanoTime() - scheduled;
+                                String outcome = failure != null ? failure.getClass().getSimpleName()
+                                                : Integer.toString(response.statusCode());
+                                targetStats.completed(outcome, latency);
+                                if (outstanding.decrementAndGet() == 0) {
+                                    synchronized (completed) {
+                                        completed.notifyAll();
+                                    }
+                                }
+                            });
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        try {
+            synchronized (completed) {
+                long remaining;
+                while (outstanding.get() > 0 && (remaining = deadline - System.nanoTime()) > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(completed, remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (outstanding.get() > 0) {
+            System.err.println(outstanding.get() + " requests were still incomplete after 60 s");
+        }
+        return stats;
+    }
+
+    private static HttpRequest request(URI baseUrl, Target target) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + target.path())).timeout(Duration.ofSeconds(30));
+        if (target.body() == null) {
+            return builder.GET().build();
+        }
+        return builder.header("Content-Type", "application/json")
+                        .method(target.method(), HttpRequest.BodyPublishers.ofString(target.body()))
+                        .build();
+    }
+
+    private static List<Target> targets(String scenario) {
+        List<Target> targets = new ArrayList<>();
+        if (!scenario.equals("validate")) {
+            for (String demo : List.of("basicRecordTest", "recordValidatePropertyAndValueTest", "validateRecordParametersTest",
+                                       "nestedRecordsTest", "GroupSequenceRecordsTest")) {
+                targets.add(new Target("demo " + demo, "GET", "/Validation31TestServlet?demo=" + demo, null));
+            }
+        }
+        if (!scenario.equals("demos")) {
+            targets.add(new Target("validate Employee valid", "POST", "/validate/Employee",
+                                   "{\"empid\":\"E1001\",\"email\":{\"value\":\"emp1@example.com\"}}"));
+            targets.add(new Target("validate Employee invalid", "POST", "/validate/Employee",
+                                   "{\"empid\":null,\"email\":{\"value\":\"ab\"}}"));
+            targets.add(new Target("validate SignupForm ValidationOrder", "POST", "/validate/SignupForm?group=ValidationOrder",
+                                   "{\"firstName\":\"\",\"age\":15}"));
+            targets.add(new Target("validate batch", "POST", "/validate/batch",
+                                   "[{\"type\":\"Employee\",\"value\":{\"empid\":\"E1\",\"email\":{\"value\":\"a@example.com\"}}},"
+                                                                   + "{\"type\":\"Person\",\"value\":{\"name\":\"x\"}},"
+                                                                   + "{\"type\":\"SignupForm\",\"group\":\"ValidationOrder\","
+                                                                   + "\"value\":{\"firstName\":\"Ann\",\"age\":15}}]"));
+        }
+        return targets;
+    }
+
+    /**
+     * Print the report and write it as JSON
+     */
+    private static void report(Options options, Map<Target, Stats> stats, long elapsedNanos) throws IOException {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf(Locale.ROOT, "%-40s %8s %8s %10s %9s %9s %9s %9s %9s  %s%n",
+                          "target", "sent", "dropped", "ok/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "outcomes");
+        try (JsonGenerator json = Json.createGenerator(Files.newBufferedWriter(options.report()))) {
+            json.writeStartObject();
+            json.write("baseUrl", options.baseUrl().toString());
+            json.write("rate", options.rate());
+            json.write("durationSeconds", options.durationSeconds());
+            json.write("elapsedSeconds", seconds);
+            json.writeStartArray("targets");
+            for (Map.Entry<Target, Stats> entry : stats.entrySet()) {
+                Target target = entry.getKey();
+                Stats result = entry.getValue();
+                synchronized (result) {
+                    LatencyHistogram latency = result.latency;
+                    long ok = result.outcomes.entrySet().stream()
+                                    .filter(outcome -> outcome.getKey().startsWith("2"))
+                                    .mapToLong(Map.Entry::getValue)
+                                    .sum();
+                    System.out.printf(Locale.ROOT, "%-40s %8d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                                      target.name(), result.sent, result.dropped, ok / seconds,
+                                      millis(latency.percentile(50)), millis(latency.percentile(90)),
+                                      millis(latency.percentile(99)), millis(latency.percentile(99.9)),
+                                      millis(latency.max()), result.outcomes);
+
+                    json.writeStartObject();
+                    json.write("name", target.name());
+                    json.write("method", target.method());
+                    json.write("path", target.path());
+                    json.write("sent", result.sent);
+                    json.write("dropped", result.dropped);
+                    json.write("successPerSecond", ok / seconds);
+                    json.writeStartObject("outcomes");
+                    result.outcomes.forEach(json::write);
+                    json.writeEnd();
+                    json.writeStartObject("latencyMillis");
+                    json.write("mean", latency.mean() / 1e6);
+                    json.write("p50", millis(latency.percentile(50)));
+                    json.write("p90", millis(latency.percentile(90)));
+                    json.write("p99", millis(latency.percentile(99)));
+                    json.write("p999", millis(latency.percentile(99.9)));
+                    json.write("max", millis(latency.max()));
+                    json.writeEnd();
+                    json.writeEnd();
+                }
+            }
+            json.writeEnd();
+            json.writeEnd();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        System.out.println("Report written to " + options.report());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * @return A virtual thread per task executor if the JDK has virtual threads, otherwise a cached thread pool
+     */
+    private static ExecutorService executor() {
+        try {
+            Method virtual = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) virtual.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "load-client");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.load;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+
+/**
+ * Fails a load test whose {@link LoadGenerator} run failed, once the server has been stopped:
+ *
+ * <pre>
+ * java LoadReportCheck load-report.json
+ * </pre>
+ *
+ * Exits with status 1 if the report is missing, unreadable or holds an <code>error</code>.
+ */
+public final class LoadReportCheck {
+
+    private LoadReportCheck() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: LoadReportCheck REPORT");
+            System.exit(2);
+            return;
+        }
+        Path report = Path.of(args[0]);
+        try (Reader in = Files.newBufferedReader(report); JsonReader json = Json.createReader(in)) {
+            JsonObject object = json.readObject();
+            if (object.containsKey("error")) {
+                System.err.println("Load test failed: " + object.getString("error"));
+                System.exit(1);
+            }
+        } catch (NoSuchFileException e) {
+            System.err.println("Load test failed: " + report + " was not written");
+            System.exit(1);
+        } catch (IOException | JsonException e) {
+            System.err.println("Load test failed: cannot read " + report + ": " + e);
+            System.exit(1);
+        }
+    }
+}
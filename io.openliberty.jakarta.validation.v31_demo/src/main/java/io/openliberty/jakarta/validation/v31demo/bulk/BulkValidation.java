@@ -0,0 +1,502 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bulk;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.openliberty.jakarta.validation.v31demo.fastpath.CachingMessageInterpolator;
+import io.openliberty.jakarta.validation.v31demo.fastpath.FastValidation;
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import io.openliberty.jakarta.validation.v31demo.result.ViolationJson;
+import io.openliberty.jakarta.validation.v31demo.result.ViolationReport;
+import io.openliberty.jakarta.validation.v31demo.result.ViolationReportWriter;
+import io.openliberty.jakarta.validation.v31demo.service.ConstructorValidation;
+import jakarta.json.Json;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.groups.Default;
+
+/**
+ * Validates every record of an NDJSON or CSV file outside the server, in memory that does not
+ * grow with the file:
+ *
+ * <pre>
+ * java BulkValidation --type Employee --input employees.csv [--output violations.ndjson]
+ *                     [--format csv|ndjson] [--report ndjson|binary] [--group ValidationOrder] [--fastPath | --construct]
+ *                     [--workers N] [--batch N] [--inFlight N] [--buffer BYTES]
+ * </pre>
+ *
+ * The calling thread reads the input in batches and hands each batch to a pool of workers, which
+ * parse, validate and format it. A single writer appends the formatted batches to the output in
+ * input order. The queue of batches waiting for the writer is bounded, so a slow writer or slow
+ * workers block the reader rather than letting batches pile up in memory.
+ * <p>
+ * Each record with violations becomes one line of the output, <code>{"line":n,"violations":[...]}</code>,
+ * and each record that cannot be read becomes <code>{"line":n,"error":"..."}</code>. With
+ * <code>--report binary</code> the same rows are written by a {@link ViolationReportWriter}
+ * instead, a fraction of the size, and read with {@link ViolationReport} or converted to NDJSON
+ * or CSV by {@link ViolationReportConverter}. The exit status is 0 if every record is valid, 1 if
+ * any is not, and 2 for a usage error.
+ * <p>
+ * With <code>--construct</code> the arguments of each record's canonical constructor are
+ * validated through {@link ConstructorValidation} and an invalid record is never built.
+ * Constraints on accessors or on the record class are not checked in this mode.
+ */
+public final class BulkValidation {
+
+    private static final String MODEL_PACKAGE = "io.openliberty.jakarta.validation.v31demo.model";
+
+    private static final Future<BatchResult> END = CompletableFuture.completedFuture(null);
+
+    private static final JsonGeneratorFactory JSON = Json.createGeneratorFactory(null);
+
+    /**
+     * The input format
+     */
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    /**
+     * The output format
+     */
+    public enum Report {
+        NDJSON,
+        BINARY
+    }
+
+    /**
+     * @param type The record type of each line
+     * @param input The file to validate
+     * @param output The file the violations are written to
+     * @param format The input format
+     * @param report The output format
+     * @param groups The groups to validate
+     * @param fastPath Whether to use the generated validators where they exist
+     * @param construct Whether to validate constructor arguments before building each record
+     * @param workers The number of threads that parse and validate
+     * @param batchSize The number of records handed to a worker at a time
+     * @param inFlight The number of batches that may wait for the writer
+     * @param bufferSize The read buffer size, which limits the length of a record
+     */
+    public record Options(Class<? extends Record> type, Path input, Path output, Format format, Report report, Class<?>[] groups,
+                          boolean fastPath, boolean construct, int workers, int batchSize, int inFlight, int bufferSize) {
+
+        /**
+         * Parse command line arguments
+         *
+         * @throws IllegalArgumentException If the arguments are not valid
+         */
+        public static Options parse(String... args) {
+            String type = "Employee";
+            Path input = null;
+            Path output = null;
+            Format format = null;
+            Report report = Report.NDJSON;
+            List<Class<?>> groups = new ArrayList<>();
+            boolean fastPath = false;
+            boolean construct = false;
+            int workers = Runtime.getRuntime().availableProcessors();
+            int batchSize = 1000;
+            int inFlight = -1;
+            int bufferSize = 1 << 20;
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (arg.equals("--fastPath")) {
+                    fastPath = true;
+                    continue;
+                }
+                if (arg.equals("--construct")) {
+                    construct = true;
+                    continue;
+                }
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Missing value for " + arg);
+                }
+                String value = args[++i];
+                switch (arg) {
+                    case "--type" -> type = value;
+                    case "--input" -> input = Path.of(value);
+                    case "--output" -> output = Path.of(value);
+                    case "--format" -> format = Format.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--report" -> report = Report.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--group" -> {
+                        for (String group : value.split(",")) {
+                            groups.add(modelClass(group.trim()));
+                        }
+                    }
+                    case "--workers" -> workers = positive(arg, value);
+                    case "--batch" -> batchSize = positive(arg, value);
+                    case "--inFlight" -> inFlight = positive(arg, value);
+                    case "--buffer" -> bufferSize = positive(arg, value);
+                    default -> throw new IllegalArgumentException("Unknown option " + arg);
+                }
+            }
+            if (input == null) {
+                throw new IllegalArgumentException("--input is required");
+            }
+            if (fastPath && construct) {
+                throw new IllegalArgumentException("--fastPath and --construct cannot be combined");
+            }
+            Class<?> recordType = modelClass(type);
+            if (!recordType.isRecord()) {
+                throw new IllegalArgumentException(type + " is not a record");
+            }
+            if (output == null) {
+                output = Path.of(input + (report == Report.BINARY ? ".violations.vrep" : ".violations.ndjson"));
+            }
+            if (format == null) {
+                format = input.toString().toLowerCase(Locale.ROOT).endsWith(".csv") ? Format.CSV : Format.NDJSON;
+            }
+            return new Options(recordType.asSubclass(Record.class), input, output, format, report,
+                               groups.isEmpty() ? new Class<?>[] { Default.class } : groups.toArray(new Class<?>[0]),
+                               fastPath, construct, workers, batchSize, inFlight < 0 ? 4 * workers : inFlight, bufferSize);
+        }
+
+        private static Class<?> modelClass(String name) {
+            if (name.equals("Default")) {
+                return Default.class;
+            }
+            try {
+                return Class.forName(name.indexOf('.') < 0 ? MODEL_PACKAGE + "." + name : name);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalArgumentException("Unknown class " + name);
+            }
+        }
+
+        private static int positive(String option, String value) {
+            int number = Integer.parseInt(value);
+            if (number <= 0) {
+                throw new IllegalArgumentException(option + " must be positive");
+            }
+            return number;
+        }
+    }
+
+    /**
+     * The counts of a completed run
+     *
+     * @param records The number of records read
+     * @param invalid The number of records with violations
+     * @param unreadable The number of records that could not be parsed
+     * @param nanos The elapsed time
+     */
+    public record Summary(long records, long invalid, long unreadable, long nanos) {
+
+        public double recordsPerSecond() {
+            return nanos == 0 ? 0 : records * 1e9 / nanos;
+        }
+    }
+
+    /**
+     * Records read from the input, with the line each starts on
+     */
+    private static final class Batch {
+        final long[] lines;
+        final String[] records;
+        int size;
+
+        Batch(int capacity) {
+            lines = new long[capacity];
+            records = new String[capacity];
+        }
+    }
+
+    /**
+     * A record with violations, or that could not be read, kept for a binary report
+     */
+    private record Rejection(long line, String error, List<Violation> violations) {}
+
+    /**
+     * The formatted output of a batch, or its rejections for a binary report
+     */
+    private record BatchResult(byte[] output, List<Rejection> rejections, int records, int invalid, int unreadable) {}
+
+    /**
+     * Where the writer appends the results of each batch
+     */
+    private interface Output extends Closeable {
+        void append(BatchResult result) throws IOException;
+    }
+
+    private BulkValidation() {}
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: BulkValidation --type Employee|SignupForm --input FILE [--output FILE] [--format csv|ndjson] [--report ndjson|binary]");
+            System.err.println("                      [--group NAME[,NAME]] [--fastPath | --construct] [--workers N] [--batch N] [--inFlight N] [--buffer BYTES]");
+            System.exit(2);
+            return;
+        }
+        Summary summary;
+        try (ValidatorFactory factory = Validation.byDefaultProvider().configure()
+                        .messageInterpolator(new CachingMessageInterpolator())
+                        .buildValidatorFactory()) {
+            summary = run(options, factory);
+        }
+        System.out.printf(Locale.ROOT, "Validated %,d records in %.1f s (%,.0f records/s): %,d invalid, %,d unreadable%n",
+                          summary.records(), summary.nanos() / 1e9, summary.recordsPerSecond(), summary.invalid(), summary.unreadable());
+        System.out.println("Violations written to " + options.output());
+        System.exit(summary.invalid() + summary.unreadable() == 0 ? 0 : 1);
+    }
+
+    /**
+     * Validate the input file and write its violations to the output file
+     *
+     * @param options What to validate and how
+     * @param factory The validator factory, whose validator and generated validators are used by all workers
+     * @return The counts of the run
+     */
+    public static Summary run(Options options, ValidatorFactory factory) throws IOException, InterruptedException {
+        Validator validator = factory.getValidator();
+        FastValidation fastPath = options.fastPath() ? new FastValidation(factory) : null;
+        long start = System.nanoTime();
+        ExecutorService workers = Executors.newFixedThreadPool(options.workers(), threads("bulk-worker"));
+        ExecutorService writerThread = Executors.newSingleThreadExecutor(threads("bulk-writer"));
+        BlockingQueue<Future<BatchResult>> pending = new ArrayBlockingQueue<>(options.inFlight());
+        try (LineReader reader = new LineReader(options.input(), options.bufferSize(), options.format() == Format.CSV);
+                        Output output = open(options)) {
+            RecordMapper<? extends Record> mapper;
+            if (options.format() == Format.CSV) {
+                String header = reader.next();
+                if (header == null) {
+                    throw new IOException(options.input() + " has no CSV header");
+                }
+                mapper = RecordMapper.forCsv(options.type(), header);
+            } else {
+                mapper = RecordMapper.forJson(options.type());
+            }
+            if (options.construct()) {
+                mapper = mapper.validatingConstructors(new ConstructorValidation(validator), options.groups());
+            }
+
+            Future<long[]> writer = writerThread.submit(() -> write(pending, output));
+            Batch batch = new Batch(options.batchSize());
+            for (String record = reader.next(); record != null && !writer.isDone(); record = reader.next()) {
+                if (record.isBlank()) {
+                    continue;
+                }
+                batch.lines[batch.size] = reader.recordLine();
+                batch.records[batch.size++] = record;
+                if (batch.size == options.batchSize()) {
+                    submit(pending, workers, batch, mapper, validator, fastPath, options, writer);
+                    batch = new Batch(options.batchSize());
+                }
+            }
+            if (batch.size > 0) {
+                submit(pending, workers, batch, mapper, validator, fastPath, options, writer);
+            }
+            put(pending, END, writer);
+
+            long[] counts;
+            try {
+                counts = writer.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() instanceof ExecutionException ? e.getCause().getCause() : e.getCause();
+                if (cause instanceof IOException io) {
+                    throw io;
+                }
+                throw new IllegalStateException(cause);
+            }
+            return new Summary(counts[0], counts[1], counts[2], System.nanoTime() - start);
+        } finally {
+            workers.shutdownNow();
+            writerThread.shutdownNow();
+        }
+    }
+
+    private static void submit(BlockingQueue<Future<BatchResult>> pending, ExecutorService workers, Batch batch,
+                               RecordMapper<? extends Record> mapper, Validator validator, FastValidation fastPath,
+                               Options options, Future<long[]> writer) throws InterruptedException {
+        put(pending, workers.submit(() -> validate(batch, mapper, validator, fastPath, options)), writer);
+    }
+
+    /**
+     * Queue a batch for the writer, waiting while the queue is full unless the writer has stopped
+     */
+    private static void put(BlockingQueue<Future<BatchResult>> pending, Future<BatchResult> batch,
+                            Future<long[]> writer) throws InterruptedException {
+        while (!pending.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Parse, validate and format the records of a batch
+     */
+    private static BatchResult validate(Batch batch, RecordMapper<? extends Record> mapper, Validator validator,
+                                        FastValidation fastPath, Options options) {
+        boolean binary = options.report() == Report.BINARY;
+        ByteArrayOutputStream out = binary ? null : new ByteArrayOutputStream();
+        List<Rejection> rejections = binary ? new ArrayList<>() : null;
+        int invalid = 0;
+        int unreadable = 0;
+        for (int i = 0; i < batch.size; i++) {
+            Record record;
+            List<Violation> violations = List.of();
+            try {
+                record = mapper.read(batch.records[i]);
+            } catch (RecordMapper.Rejected e) {
+                // Only thrown when validating constructors, which leaves nothing to validate afterwards
+                record = null;
+                violations = e.violations();
+            } catch (IllegalArgumentException e) {
+                unreadable++;
+                if (binary) {
+                    rejections.add(new Rejection(batch.lines[i], String.valueOf(e.getMessage()), List.of()));
+                    continue;
+                }
+                try (JsonGenerator json = JSON.createGenerator(out)) {
+                    json.writeStartObject();
+                    json.write("line", batch.lines[i]);
+                    json.write("error", String.valueOf(e.getMessage()));
+                    json.writeEnd();
+                }
+                out.write('\n');
+                continue;
+            }
+            if (!options.construct()) {
+                violations = violations(validator, fastPath, options, record);
+            }
+            if (!violations.isEmpty()) {
+                invalid++;
+                if (binary) {
+                    rejections.add(new Rejection(batch.lines[i], null, violations));
+                    continue;
+                }
+                try (JsonGenerator json = JSON.createGenerator(out)) {
+                    json.writeStartObject();
+                    json.write("line", batch.lines[i]);
+                    ViolationJson.writeArray(json, "violations", violations);
+                    json.writeEnd();
+                }
+                out.write('\n');
+            }
+        }
+        return new BatchResult(binary ? null : out.toByteArray(), rejections, batch.size, invalid, unreadable);
+    }
+
+    private static List<Violation> violations(Validator validator, FastValidation fastPath, Options options, Record record) {
+        if (fastPath != null) {
+            List<Violation> violations = fastPath.validate(record, options.groups());
+            if (violations != null) {
+                return violations;
+            }
+        }
+        Set<ConstraintViolation<Record>> violations = validator.validate(record, options.groups());
+        List<Violation> details = new ArrayList<>(violations.size());
+        for (ConstraintViolation<Record> violation : violations) {
+            details.add(Violation.of(violation));
+        }
+        return details;
+    }
+
+    /**
+     * Append the batches to the output in the order they were read
+     *
+     * @return The numbers of records, invalid records and unreadable records
+     */
+    private static long[] write(BlockingQueue<Future<BatchResult>> pending, Output output) throws Exception {
+        long[] counts = new long[3];
+        for (Future<BatchResult> next = pending.take(); next != END; next = pending.take()) {
+            BatchResult result = next.get();
+            output.append(result);
+            counts[0] += result.records();
+            counts[1] += result.invalid();
+            counts[2] += result.unreadable();
+        }
+        return counts;
+    }
+
+    /**
+     * Create the output file in the format of the options
+     */
+    private static Output open(Options options) throws IOException {
+        if (options.report() == Report.BINARY) {
+            ViolationReportWriter report = new ViolationReportWriter(options.output());
+            return new Output() {
+                @Override
+                public void append(BatchResult result) throws IOException {
+                    for (Rejection rejection : result.rejections()) {
+                        if (rejection.error() != null) {
+                            report.writeError(rejection.line(), rejection.error());
+                        } else {
+                            report.write(rejection.line(), rejection.violations());
+                        }
+                    }
+                }
+
+                @Override
+                public void close() throws IOException {
+                    report.close();
+                }
+            };
+        }
+        FileChannel channel = FileChannel.open(options.output(), StandardOpenOption.CREATE,
+                                               StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        return new Output() {
+            @Override
+            public void append(BatchResult result) throws IOException {
+                ByteBuffer bytes = ByteBuffer.wrap(result.output());
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+    }
+
+    private static ThreadFactory threads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
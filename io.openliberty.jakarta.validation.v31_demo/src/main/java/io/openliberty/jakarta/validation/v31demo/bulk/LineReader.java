@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bulk;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the records of a text file one at a time through a {@link FileChannel} and a single
+ * fixed-size buffer, so memory use does not depend on the file size.
+ * <p>
+ * Records end at a line feed, optionally preceded by a carriage return. In CSV mode a line feed
+ * inside a quoted field does not end the record. A record longer than the buffer is an error.
+ */
+final class LineReader implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] bytes;
+    private final boolean csvQuotes;
+
+    private int start;
+    private int scan;
+    private int limit;
+    private boolean endOfFile;
+    private boolean inQuotes;
+
+    private long line = 1;
+    private long recordStart = 1;
+    private long recordLine;
+
+    LineReader(Path file, int bufferSize, boolean csvQuotes) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.bytes = buffer.array();
+        this.csvQuotes = csvQuotes;
+        skipByteOrderMark();
+    }
+
+    /**
+     * @return The next record without its line terminator, or null at the end of the file
+     */
+    String next() throws IOException {
+        while (true) {
+            for (; scan < limit; scan++) {
+                byte b = bytes[scan];
+                if (b == '"' && csvQuotes) {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n') {
+                    if (!inQuotes) {
+                        String record = decode(start, scan);
+                        recordLine = recordStart;
+                        recordStart = ++line;
+                        start = ++scan;
+                        return record;
+                    }
+                    line++;
+                }
+            }
+            if (endOfFile) {
+                if (start == limit) {
+                    return null;
+                }
+                String record = decode(start, limit);
+                recordLine = recordStart;
+                start = limit;
+                return record;
+            }
+            fill();
+        }
+    }
+
+    /**
+     * @return The line number on which the last record returned by {@link #next()} starts
+     */
+    long recordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Move the unread part of the buffer to its start and read more of the file after it
+     */
+    private void fill() throws IOException {
+        if (start > 0) {
+            System.arraycopy(bytes, start, bytes, 0, limit - start);
+            scan -= start;
+            limit -= start;
+            start = 0;
+        }
+        if (limit == bytes.length) {
+            throw new IOException("Record at line " + line + " is longer than the " + bytes.length + " byte read buffer");
+        }
+        buffer.limit(bytes.length).position(limit);
+        int read = channel.read(buffer);
+        if (read < 0) {
+            endOfFile = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    private String decode(int from, int to) {
+        if (to > from && bytes[to - 1] == '\r') {
+            to--;
+        }
+        return new String(bytes, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        while (limit < 3 && !endOfFile) {
+            fill();
+        }
+        if (limit >= 3 && bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB && bytes[2] == (byte) 0xBF) {
+            start = scan = 3;
+        }
+    }
+}
@@ -0,0 +1,380 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bulk;
+
+import java.io.StringReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import io.openliberty.jakarta.validation.v31demo.service.ConstructorValidation;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.validation.ConstraintViolation;
+
+/**
+ * Builds records from NDJSON lines or CSV rows through their canonical constructors.
+ * <p>
+ * Components may be strings, <code>int</code>, <code>long</code>, <code>double</code> or
+ * <code>boolean</code> values, primitive or boxed, or nested records. A missing or null primitive
+ * gets its default value, as with JSON-B. CSV columns are named by component path, e.g.
+ * <code>email.value</code>; an unquoted empty field is null, and a nested record whose fields
+ * are all null is itself null.
+ * <p>
+ * A mapper {@link #validatingConstructors validating constructors} builds the nested records,
+ * validates the arguments of the outermost record's constructor, which cascade into the nested
+ * records as validating the record would, and rejects the text instead of building the record
+ * if they are not valid.
+ * <p>
+ * Instances are immutable and may be shared by threads.
+ */
+final class RecordMapper<T extends Record> {
+
+    private static final JsonReaderFactory JSON = Json.createReaderFactory(null);
+
+    private static final ClassValue<Shape> SHAPES = new ClassValue<>() {
+        @Override
+        protected Shape computeValue(Class<?> type) {
+            return Shape.of(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final Columns columns;
+    private final ConstructorValidation constructors;
+    private final Class<?>[] groups;
+
+    /**
+     * Thrown when constructor arguments are not valid. No stack trace is captured, since invalid
+     * records are expected.
+     */
+    static final class Rejected extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Violation> violations;
+
+        Rejected(List<Violation> violations) {
+            super(null, null, false, false);
+            this.violations = violations;
+        }
+
+        /**
+         * @return The violations, with the paths they have when the record is validated
+         */
+        List<Violation> violations() {
+            return violations;
+        }
+    }
+
+    private RecordMapper(Class<T> type, Columns columns, ConstructorValidation constructors, Class<?>[] groups) {
+        this.type = type;
+        this.columns = columns;
+        this.constructors = constructors;
+        this.groups = groups;
+    }
+
+    /**
+     * @return A mapper reading one JSON object per line
+     */
+    static <T extends Record> RecordMapper<T> forJson(Class<T> type) {
+        SHAPES.get(type);
+        return new RecordMapper<>(type, null, null, null);
+    }
+
+    /**
+     * @param header The CSV header row naming the component path of each column
+     * @return A mapper reading CSV rows in the order of the header
+     * @throws IllegalArgumentException If a column does not name a component
+     */
+    static <T extends Record> RecordMapper<T> forCsv(Class<T> type, String header) {
+        List<String> names = splitCsv(header);
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i) == null || indexes.put(names.get(i).trim(), i) != null) {
+                throw new IllegalArgumentException("Empty or duplicate CSV column " + (i + 1));
+            }
+        }
+        Set<String> used = new HashSet<>();
+        Columns columns = Columns.of(SHAPES.get(type), "", indexes, used);
+        for (String name : indexes.keySet()) {
+            if (!used.contains(name)) {
+                throw new IllegalArgumentException("CSV column " + name + " is not a component of " + type.getSimpleName());
+            }
+        }
+        return new RecordMapper<>(type, columns, null, null);
+    }
+
+    /**
+     * @param constructors Validates the arguments of each record before it is built
+     * @param groups The groups to validate
+     * @return A mapper reading the same format that validates constructor arguments
+     */
+    RecordMapper<T> validatingConstructors(ConstructorValidation constructors, Class<?>[] groups) {
+        return new RecordMapper<>(type, columns, constructors, groups);
+    }
+
+    /**
+     * @param text An NDJSON line or a CSV row
+     * @return The record
+     * @throws IllegalArgumentException If the text cannot be read as the record
+     * @throws Rejected If this mapper validates constructors and the arguments of a record are not valid
+     */
+    T read(String text) {
+        Object record;
+        if (columns == null) {
+            JsonObject object;
+            try (JsonReader reader = JSON.createReader(new StringReader(text))) {
+                object = reader.readObject();
+            } catch (JsonException | IllegalStateException e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+            record = fromJson(SHAPES.get(type), object, "");
+        } else {
+            List<String> fields = splitCsv(text);
+            if (fields.size() != columns.count) {
+                throw new IllegalArgumentException("Expected " + columns.count + " CSV fields but found " + fields.size());
+            }
+            record = fromCsv(columns, fields, "");
+        }
+        return type.cast(record);
+    }
+
+    private Object fromJson(Shape shape, JsonObject object, String prefix) {
+        Object[] values = new Object[shape.names.length];
+        for (int i = 0; i < values.length; i++) {
+            String path = prefix + shape.names[i];
+            Class<?> type = shape.types[i];
+            JsonValue value = object.get(shape.names[i]);
+            if (value == null || value.getValueType() == JsonValue.ValueType.NULL) {
+                values[i] = defaultValue(type);
+            } else if (type.isRecord() && value instanceof JsonObject nested) {
+                values[i] = fromJson(SHAPES.get(type), nested, path + ".");
+            } else if (type == String.class && value instanceof JsonString string) {
+                values[i] = string.getString();
+            } else if (isBoolean(type) && (value == JsonValue.TRUE || value == JsonValue.FALSE)) {
+                values[i] = value == JsonValue.TRUE;
+            } else if (value instanceof JsonNumber number && isNumber(type)) {
+                try {
+                    if (type == int.class || type == Integer.class) {
+                        values[i] = number.intValueExact();
+                    } else if (type == long.class || type == Long.class) {
+                        values[i] = number.longValueExact();
+                    } else {
+                        values[i] = number.doubleValue();
+                    }
+                } catch (ArithmeticException e) {
+                    throw new IllegalArgumentException("Number out of range for " + path);
+                }
+            } else {
+                throw new IllegalArgumentException("Unexpected " + value.getValueType() + " for " + path);
+            }
+        }
+        return construct(shape, values, prefix);
+    }
+
+    private Object fromCsv(Columns columns, List<String> fields, String prefix) {
+        Shape shape = columns.shape;
+        Object[] values = new Object[shape.names.length];
+        boolean empty = true;
+        for (int i = 0; i < values.length; i++) {
+            String path = prefix + shape.names[i];
+            if (columns.nested[i] != null) {
+                values[i] = fromCsv(columns.nested[i], fields, path + ".");
+                empty &= values[i] == null;
+            } else {
+                String text = columns.indexes[i] < 0 ? null : fields.get(columns.indexes[i]);
+                values[i] = text == null ? defaultValue(shape.types[i]) : fromText(shape.types[i], text, path);
+                empty &= text == null;
+            }
+        }
+        return empty && !prefix.isEmpty() ? null : construct(shape, values, prefix);
+    }
+
+    private Object construct(Shape shape, Object[] values, String prefix) {
+        if (constructors != null && prefix.isEmpty()) {
+            Set<? extends ConstraintViolation<?>> violations = constructors.validate(shape.type(), values, groups);
+            if (!violations.isEmpty()) {
+                throw new Rejected(ConstructorValidation.toViolations(violations));
+            }
+        }
+        return shape.construct(values);
+    }
+
+    private static Object fromText(Class<?> type, String text, String path) {
+        if (type == String.class) {
+            return text;
+        }
+        try {
+            if (type == int.class || type == Integer.class) {
+                return Integer.parseInt(text.trim());
+            } else if (type == long.class || type == Long.class) {
+                return Long.parseLong(text.trim());
+            } else if (type == double.class || type == Double.class) {
+                return Double.parseDouble(text.trim());
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number for " + path + ": " + text);
+        }
+        if ("true".equalsIgnoreCase(text.trim()) || "false".equalsIgnoreCase(text.trim())) {
+            return Boolean.parseBoolean(text.trim());
+        }
+        throw new IllegalArgumentException("Not a boolean for " + path + ": " + text);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == double.class) {
+            return 0d;
+        } else if (type == boolean.class) {
+            return false;
+        }
+        return null;
+    }
+
+    private static boolean isNumber(Class<?> type) {
+        return type == int.class || type == Integer.class || type == long.class || type == Long.class
+               || type == double.class || type == Double.class;
+    }
+
+    private static boolean isBoolean(Class<?> type) {
+        return type == boolean.class || type == Boolean.class;
+    }
+
+    /**
+     * Split a CSV row into its fields as described by RFC 4180
+     *
+     * @return The fields, with null for unquoted empty fields
+     */
+    static List<String> splitCsv(String row) {
+        List<String> fields = new ArrayList<>();
+        int i = 0;
+        int length = row.length();
+        while (true) {
+            if (i < length && row.charAt(i) == '"') {
+                StringBuilder field = new StringBuilder();
+                i++;
+                while (true) {
+                    if (i >= length) {
+                        throw new IllegalArgumentException("Unterminated quoted CSV field " + (fields.size() + 1));
+                    }
+                    char c = row.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < length && row.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                fields.add(field.toString());
+                if (i < length && row.charAt(i) != ',') {
+                    throw new IllegalArgumentException("Unexpected text after quoted CSV field " + fields.size());
+                }
+            } else {
+                int end = row.indexOf(',', i);
+                if (end < 0) {
+                    end = length;
+                }
+                fields.add(end == i ? null : row.substring(i, end));
+                i = end;
+            }
+            if (i >= length) {
+                return fields;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * The components of a record type and its canonical constructor
+     */
+    private record Shape(Constructor<?> constructor, String[] names, Class<?>[] types) {
+
+        static Shape of(Class<?> type) {
+            if (!type.isRecord()) {
+                throw new IllegalArgumentException(type.getName() + " is not a record");
+            }
+            RecordComponent[] components = type.getRecordComponents();
+            String[] names = new String[components.length];
+            Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                names[i] = components[i].getName();
+                types[i] = components[i].getType();
+                if (!types[i].isRecord() && types[i] != String.class && !isNumber(types[i]) && !isBoolean(types[i])) {
+                    throw new IllegalArgumentException("Unsupported type " + types[i].getName() + " of " + type.getSimpleName()
+                                                       + "." + names[i]);
+                }
+            }
+            try {
+                return new Shape(type.getDeclaredConstructor(types), names, types);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        Class<? extends Record> type() {
+            return constructor.getDeclaringClass().asSubclass(Record.class);
+        }
+
+        Object construct(Object[] values) {
+            try {
+                return constructor.newInstance(values);
+            } catch (InvocationTargetException e) {
+                throw new IllegalArgumentException(String.valueOf(e.getCause()), e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * The CSV column of each component of a record, or the columns of its nested record
+     */
+    private record Columns(Shape shape, int[] indexes, Columns[] nested, int count) {
+
+        static Columns of(Shape shape, String prefix, Map<String, Integer> header, Set<String> used) {
+            int[] indexes = new int[shape.names.length];
+            Columns[] nested = new Columns[shape.names.length];
+            for (int i = 0; i < indexes.length; i++) {
+                String path = prefix + shape.names[i];
+                if (shape.types[i].isRecord()) {
+                    nested[i] = of(SHAPES.get(shape.types[i]), path + ".", header, used);
+                    indexes[i] = -1;
+                } else {
+                    indexes[i] = header.getOrDefault(path, -1);
+                    if (indexes[i] >= 0) {
+                        used.add(path);
+                    }
+                }
+            }
+            return new Columns(shape, indexes, nested, header.size());
+        }
+    }
+}
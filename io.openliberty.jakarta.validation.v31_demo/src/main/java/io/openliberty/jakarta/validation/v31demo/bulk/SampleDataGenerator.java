@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bulk;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Writes a file of <code>Employee</code> or <code>SignupForm</code> records for {@link BulkValidation},
+ * with a share of them invalid:
+ *
+ * <pre>
+ * java SampleDataGenerator --type Employee|SignupForm --rows N --output FILE [--invalidPercent P]
+ * </pre>
+ *
+ * The format follows the output file extension: CSV for <code>.csv</code>, NDJSON otherwise.
+ * The same arguments always produce the same file.
+ */
+public final class SampleDataGenerator {
+
+    private SampleDataGenerator() {}
+
+    public static void main(String[] args) throws IOException {
+        String type = "Employee";
+        long rows = 1_000_000;
+        Path output = null;
+        int invalidPercent = 10;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--type" -> type = args[i + 1];
+                case "--rows" -> rows = Long.parseLong(args[i + 1]);
+                case "--output" -> output = Path.of(args[i + 1]);
+                case "--invalidPercent" -> invalidPercent = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (output == null || !type.equals("Employee") && !type.equals("SignupForm")) {
+            System.err.println("Usage: SampleDataGenerator --type Employee|SignupForm --rows N --output FILE [--invalidPercent P]");
+            System.exit(2);
+            return;
+        }
+        boolean csv = output.toString().toLowerCase(Locale.ROOT).endsWith(".csv");
+        boolean employee = type.equals("Employee");
+
+        SplittableRandom random = new SplittableRandom(42);
+        try (Writer out = new BufferedWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8), 1 << 16)) {
+            if (csv) {
+                out.write(employee ? "empid,email.value\n" : "firstName,age\n");
+            }
+            for (long row = 1; row <= rows; row++) {
+                boolean invalid = random.nextInt(100) < invalidPercent;
+                if (employee) {
+                    writeEmployee(out, csv, row, invalid ? random.nextInt(3) : -1);
+                } else {
+                    writeSignupForm(out, csv, row, invalid ? random.nextInt(2) : -1, 18 + random.nextInt(60));
+                }
+            }
+        }
+        System.out.printf(Locale.ROOT, "Wrote %,d %s records to %s%n", rows, type, output);
+    }
+
+    /**
+     * @param fault -1 for a valid record, otherwise which constraint to break
+     */
+    private static void writeEmployee(Writer out, boolean csv, long row, int fault) throws IOException {
+        String empid = fault == 0 ? null : "E" + row;
+        String email = switch (fault) {
+            case 1 -> "employee" + row + ".example.com";
+            case 2 -> "e@";
+            default -> "employee" + row + "@example.com";
+        };
+        if (csv) {
+            out.write((empid == null ? "" : empid) + "," + email + "\n");
+        } else {
+            out.write("{\"empid\":" + (empid == null ? "null" : "\"" + empid + "\"") + ",\"email\":{\"value\":\"" + email + "\"}}\n");
+        }
+    }
+
+    private static void writeSignupForm(Writer out, boolean csv, long row, int fault, int age) throws IOException {
+        String firstName = fault == 0 ? " " : "Name" + row;
+        if (fault == 1) {
+            age = age % 18;
+        }
+        if (csv) {
+            out.write("\"" + firstName + "\"," + age + "\n");
+        } else {
+            out.write("{\"firstName\":\"" + firstName + "\",\"age\":" + age + "}\n");
+        }
+    }
+}
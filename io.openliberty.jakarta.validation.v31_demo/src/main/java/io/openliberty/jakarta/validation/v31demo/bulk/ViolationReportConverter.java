@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.bulk;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import io.openliberty.jakarta.validation.v31demo.result.ViolationJson;
+import io.openliberty.jakarta.validation.v31demo.result.ViolationReport;
+import jakarta.json.Json;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+
+/**
+ * Converts a binary violation report written by <code>BulkValidation --report binary</code> for
+ * people to read:
+ *
+ * <pre>
+ * java ViolationReportConverter --input violations.vrep [--output FILE] [--format ndjson|csv|summary] [--constraint Email]
+ * </pre>
+ *
+ * <code>ndjson</code> gives the lines <code>BulkValidation</code> writes without
+ * <code>--report binary</code>, <code>csv</code> one row per violation or unreadable record, and
+ * <code>summary</code> the counts of rows, violations and violations of each constraint, read
+ * from the report's footer alone. <code>--constraint</code> keeps only the violations of one
+ * constraint type, given by simple or class name, reading only the blocks of the report that
+ * contain it. The output goes to standard output unless <code>--output</code> is given.
+ */
+public final class ViolationReportConverter {
+
+    private static final JsonGeneratorFactory JSON = Json.createGeneratorFactory(null);
+
+    /**
+     * The output format
+     */
+    public enum Format {
+        NDJSON,
+        CSV,
+        SUMMARY
+    }
+
+    private ViolationReportConverter() {}
+
+    public static void main(String[] args) throws IOException {
+        Path input = null;
+        Path output = null;
+        Format format = Format.NDJSON;
+        String constraint = null;
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Missing value for " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--input" -> input = Path.of(value);
+                    case "--output" -> output = Path.of(value);
+                    case "--format" -> format = Format.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--constraint" -> constraint = value;
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            if (input == null) {
+                throw new IllegalArgumentException("--input is required");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: ViolationReportConverter --input FILE [--output FILE] [--format ndjson|csv|summary] [--constraint NAME]");
+            System.exit(2);
+            return;
+        }
+
+        try (ViolationReport report = ViolationReport.open(input);
+                        Writer out = output == null
+                                        ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16)
+                                        : Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            convert(report, format, constraint, out);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Write a report, or the rows with violations of one constraint, in a format
+     *
+     * @param report The report
+     * @param format The output format
+     * @param constraint The simple or class name of the constraint type, or null for all rows
+     * @param out Where to write
+     */
+    public static void convert(ViolationReport report, Format format, String constraint, Writer out) throws IOException {
+        if (format == Format.SUMMARY) {
+            writeSummary(report, out);
+            return;
+        }
+        Consumer<ViolationReport.Row> writer;
+        if (format == Format.CSV) {
+            out.write("line,path,constraint,message,invalidValue,groups,error\n");
+            writer = row -> writeCsv(row, out);
+        } else {
+            StringWriter line = new StringWriter();
+            writer = row -> writeJson(row, line, out);
+        }
+        if (constraint == null) {
+            report.forEach(writer);
+        } else {
+            report.forEach(constraint, writer);
+        }
+    }
+
+    private static void writeSummary(ViolationReport report, Writer out) throws IOException {
+        out.write(String.format(Locale.ROOT, "rows: %d%nviolations: %d%nunreadable: %d%n",
+                                report.rows(), report.violations(), report.unreadable()));
+        for (Map.Entry<String, Long> count : report.countsByConstraint().entrySet()) {
+            String type = count.getKey();
+            String name = type.substring(Math.max(type.lastIndexOf('.'), type.lastIndexOf('$')) + 1);
+            out.write(String.format(Locale.ROOT, "@%s: %d%n", name, count.getValue()));
+        }
+    }
+
+    /**
+     * Write a row as one NDJSON line, formatted apart since closing a generator closes its writer
+     */
+    private static void writeJson(ViolationReport.Row row, StringWriter line, Writer out) {
+        line.getBuffer().setLength(0);
+        try (JsonGenerator json = JSON.createGenerator(line)) {
+            json.writeStartObject();
+            json.write("line", row.line());
+            if (row.error() != null) {
+                json.write("error", row.error());
+            } else {
+                ViolationJson.writeArray(json, "violations", row.violations());
+            }
+            json.writeEnd();
+        }
+        line.write('\n');
+        try {
+            out.write(line.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCsv(ViolationReport.Row row, Writer out) {
+        try {
+            if (row.error() != null) {
+                out.write(row.line() + ",,,,,," + csv(row.error()) + "\n");
+                return;
+            }
+            for (Violation violation : row.violations()) {
+                Object value = violation.invalidValue();
+                String groups = violation.groups().stream().map(Class::getSimpleName).sorted().collect(Collectors.joining(" "));
+                out.write(row.line() + "," + csv(violation.path()) + "," + violation.constraintType().getSimpleName() + ","
+                          + csv(violation.message()) + "," + csv(value == null ? "" : value.toString()) + "," + groups + ",\n");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return The value, quoted if it contains a comma, quote or line break
+     */
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.fastpath;
+
+import java.util.regex.Pattern;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.Email;
+
+/**
+ * Validator for <code>@Email</code> that decides plain ASCII addresses with the allocation-free
+ * scan of {@link EmailCheck}, replacing the provider's regular expression based validator
+ * through <code>META-INF/validation/constraints.xml</code>.
+ * <p>
+ * As with the provider's validator, a <code>regexp</code> or <code>flags</code> on the annotation
+ * is applied in addition to the address check.
+ */
+public class AsciiEmailValidator implements ConstraintValidator<Email, CharSequence> {
+
+    private Pattern pattern;
+
+    @Override
+    public void initialize(Email email) {
+        int flags = 0;
+        for (jakarta.validation.constraints.Pattern.Flag flag : email.flags()) {
+            flags |= flag.getValue();
+        }
+        if (!".*".equals(email.regexp()) || email.flags().length > 0) {
+            pattern = Pattern.compile(email.regexp(), flags);
+        }
+    }
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        return EmailCheck.isValid(value) && (pattern == null || pattern.matcher(value).matches());
+    }
+}
@@ -0,0 +1,356 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.fastpath;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import io.openliberty.jakarta.validation.v31demo.service.BoundedCache;
+import jakarta.validation.ConstraintTarget;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Payload;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ValidateUnwrappedValue;
+
+/**
+ * Message interpolator that resolves each message template once per locale and constraint type
+ * and afterwards only substitutes the constraint's attribute values, configured in
+ * <code>WEB-INF/validation.xml</code>.
+ * <p>
+ * A template is compiled by letting the provider's default interpolator resolve it with a marker
+ * in place of every constraint attribute: the resource bundle lookups happen then, and the
+ * markers left in the result say where <code>{min}</code>, <code>{max}</code> and such go. The
+ * compiled form is kept only if rendering it gives exactly what the provider gives for the
+ * violation at hand. Templates that need the validated value, i.e. that use expression language,
+ * are never compiled and always go to the provider.
+ * <p>
+ * Violations whose constraint validator added message parameters or expression variables, such
+ * as through Hibernate Validator's <code>HibernateConstraintValidatorContext</code>, can render
+ * differently each time, so their messages also always go to the provider.
+ */
+public class CachingMessageInterpolator implements MessageInterpolator {
+
+    private static final char MARKER = '\u0000';
+
+    private static final int MAXIMUM_SIZE = 4096;
+
+    /**
+     * Stands for templates that are always interpolated by the provider
+     */
+    private static final Template PROVIDER = new Template(new String[0], new String[0]);
+
+    private static final String HIBERNATE_CONTEXT = "org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext";
+
+    /**
+     * The accessors of the message parameters and expression variables of a context class that
+     * implements <code>HibernateMessageInterpolatorContext</code>, looked up by name as the
+     * provider is not a compile-time dependency; empty for any other context class.
+     */
+    private static final ClassValue<List<Method>> VALIDATOR_PARAMETERS = new ClassValue<>() {
+        @Override
+        protected List<Method> computeValue(Class<?> type) {
+            Class<?> hibernate = findInterface(type, HIBERNATE_CONTEXT);
+            if (hibernate == null) {
+                return List.of();
+            }
+            try {
+                return List.of(hibernate.getMethod("getMessageParameters"), hibernate.getMethod("getExpressionVariables"));
+            } catch (NoSuchMethodException e) {
+                return List.of();
+            }
+        }
+    };
+
+    private final BoundedCache<Key, Template> templates = new BoundedCache<>(MAXIMUM_SIZE);
+
+    /**
+     * The locale of messages interpolated without one, fixed when the interpolator is created as
+     * the provider fixes it when the validator factory is built
+     */
+    private final Locale defaultLocale = Locale.getDefault();
+
+    private volatile MessageInterpolator delegate;
+
+    /**
+     * Interpolator delegating to the default provider's interpolator, created on first use
+     */
+    public CachingMessageInterpolator() {
+    }
+
+    /**
+     * @param delegate The interpolator that resolves templates
+     */
+    public CachingMessageInterpolator(MessageInterpolator delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * A message template as interpolated for one locale and constraint type.
+     */
+    private record Key(String template, Locale locale, Class<? extends Annotation> constraintType) {
+    }
+
+    @Override
+    public String interpolate(String messageTemplate, Context context) {
+        return interpolate(messageTemplate, context, defaultLocale);
+    }
+
+    @Override
+    public String interpolate(String messageTemplate, Context context, Locale locale) {
+        ConstraintDescriptor<?> descriptor = context.getConstraintDescriptor();
+        if (descriptor == null || hasValidatorParameters(context)) {
+            return delegate().interpolate(messageTemplate, context, locale);
+        }
+        Template template = templates.computeIfAbsent(new Key(messageTemplate, locale, descriptor.getAnnotation().annotationType()),
+                                                      key -> compile(messageTemplate, context, locale));
+        return template == PROVIDER ? delegate().interpolate(messageTemplate, context, locale) : template.render(descriptor.getAttributes());
+    }
+
+    private Template compile(String messageTemplate, Context context, Locale locale) {
+        MarkerContext markers = new MarkerContext(context);
+        String marked = delegate().interpolate(messageTemplate, markers, locale);
+        if (markers.validatedValueRead) {
+            return PROVIDER;
+        }
+        Template template = Template.parse(marked);
+        if (template == null) {
+            return PROVIDER;
+        }
+        String expected = delegate().interpolate(messageTemplate, context, locale);
+        return expected.equals(template.render(context.getConstraintDescriptor().getAttributes())) ? template : PROVIDER;
+    }
+
+    /**
+     * @return Whether the constraint validator added message parameters or expression variables,
+     *         or they cannot be read
+     */
+    private static boolean hasValidatorParameters(Context context) {
+        for (Method accessor : VALIDATOR_PARAMETERS.get(context.getClass())) {
+            try {
+                if (!(accessor.invoke(context) instanceof Map<?, ?> values) || !values.isEmpty()) {
+                    return true;
+                }
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Class<?> findInterface(Class<?> type, String name) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Class<?> implemented : current.getInterfaces()) {
+                if (implemented.getName().equals(name)) {
+                    return implemented;
+                }
+                Class<?> inherited = findInterface(implemented, name);
+                if (inherited != null) {
+                    return inherited;
+                }
+            }
+        }
+        return null;
+    }
+
+    private MessageInterpolator delegate() {
+        MessageInterpolator interpolator = delegate;
+        if (interpolator == null) {
+            // Created lazily so the provider is not bootstrapped while it is reading validation.xml
+            interpolator = Validation.byDefaultProvider().configure().getDefaultMessageInterpolator();
+            delegate = interpolator;
+        }
+        return interpolator;
+    }
+
+    /**
+     * A resolved message: literal text with the named attribute values between the pieces.
+     */
+    private record Template(String[] literals, String[] attributes) {
+
+        /**
+         * @return The template, or null if the markers in the message are not paired
+         */
+        static Template parse(String marked) {
+            int count = 0;
+            for (int i = 0; i < marked.length(); i++) {
+                if (marked.charAt(i) == MARKER) {
+                    count++;
+                }
+            }
+            if (count % 2 != 0) {
+                return null;
+            }
+            String[] literals = new String[count / 2 + 1];
+            String[] attributes = new String[count / 2];
+            int start = 0;
+            for (int i = 0; i < attributes.length; i++) {
+                int open = marked.indexOf(MARKER, start);
+                int close = marked.indexOf(MARKER, open + 1);
+                literals[i] = marked.substring(start, open);
+                attributes[i] = marked.substring(open + 1, close);
+                start = close + 1;
+            }
+            literals[attributes.length] = marked.substring(start);
+            return new Template(literals, attributes);
+        }
+
+        String render(Map<String, Object> values) {
+            if (attributes.length == 0) {
+                return literals[0];
+            }
+            StringBuilder message = new StringBuilder(literals[0]);
+            for (int i = 0; i < attributes.length; i++) {
+                message.append(format(values.get(attributes[i]))).append(literals[i + 1]);
+            }
+            return message.toString();
+        }
+
+        private static String format(Object value) {
+            if (value == null || !value.getClass().isArray()) {
+                return String.valueOf(value);
+            } else if (value instanceof Object[] array) {
+                return Arrays.toString(array);
+            } else if (value instanceof int[] array) {
+                return Arrays.toString(array);
+            } else if (value instanceof long[] array) {
+                return Arrays.toString(array);
+            } else if (value instanceof boolean[] array) {
+                return Arrays.toString(array);
+            } else if (value instanceof double[] array) {
+                return Arrays.toString(array);
+            } else if (value instanceof float[] array) {
+                return Arrays.toString(array);
+            } else if (value instanceof short[] array) {
+                return Arrays.toString(array);
+            } else if (value instanceof byte[] array) {
+                return Arrays.toString(array);
+            }
+            return Arrays.toString((char[]) value);
+        }
+    }
+
+    /**
+     * The context of a violation with every constraint attribute replaced by a marker naming it,
+     * which records whether the interpolator read the validated value.
+     */
+    private static final class MarkerContext implements Context {
+        private final Context context;
+        private final MarkerDescriptor<?> descriptor;
+        private boolean validatedValueRead;
+
+        MarkerContext(Context context) {
+            this.context = context;
+            this.descriptor = new MarkerDescriptor<>(context.getConstraintDescriptor());
+        }
+
+        @Override
+        public ConstraintDescriptor<?> getConstraintDescriptor() {
+            return descriptor;
+        }
+
+        @Override
+        public Object getValidatedValue() {
+            validatedValueRead = true;
+            return context.getValidatedValue();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            if (type.isInstance(this)) {
+                return type.cast(this);
+            }
+            throw new ValidationException("Type " + type.getName() + " not supported");
+        }
+    }
+
+    private static final class MarkerDescriptor<T extends Annotation> implements ConstraintDescriptor<T> {
+        private final ConstraintDescriptor<T> descriptor;
+        private final Map<String, Object> attributes;
+
+        MarkerDescriptor(ConstraintDescriptor<T> descriptor) {
+            this.descriptor = descriptor;
+            this.attributes = new HashMap<>();
+            for (String name : descriptor.getAttributes().keySet()) {
+                attributes.put(name, MARKER + name + MARKER);
+            }
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public T getAnnotation() {
+            return descriptor.getAnnotation();
+        }
+
+        @Override
+        public String getMessageTemplate() {
+            return descriptor.getMessageTemplate();
+        }
+
+        @Override
+        public Set<Class<?>> getGroups() {
+            return descriptor.getGroups();
+        }
+
+        @Override
+        public Set<Class<? extends Payload>> getPayload() {
+            return descriptor.getPayload();
+        }
+
+        @Override
+        public ConstraintTarget getValidationAppliesTo() {
+            return descriptor.getValidationAppliesTo();
+        }
+
+        @Override
+        public List<Class<? extends ConstraintValidator<T, ?>>> getConstraintValidatorClasses() {
+            return descriptor.getConstraintValidatorClasses();
+        }
+
+        @Override
+        public Set<ConstraintDescriptor<?>> getComposingConstraints() {
+            return descriptor.getComposingConstraints();
+        }
+
+        @Override
+        public boolean isReportAsSingleViolation() {
+            return descriptor.isReportAsSingleViolation();
+        }
+
+        @Override
+        public ValidateUnwrappedValue getValueUnwrapping() {
+            return descriptor.getValueUnwrapping();
+        }
+
+        @Override
+        public <U> U unwrap(Class<U> type) {
+            if (type.isInstance(this)) {
+                return type.cast(this);
+            }
+            throw new ValidationException("Type " + type.getName() + " not supported");
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.fastpath;
+
+import java.net.IDN;
+import java.util.regex.Pattern;
+
+/**
+ * The check of <code>@Email</code> without a <code>regexp</code>, accepting exactly the
+ * addresses Hibernate Validator accepts.
+ * <p>
+ * Addresses made only of ASCII characters, without a quoted local part or an address literal
+ * domain, are decided by a single pass over the characters that allocates nothing and also
+ * enforces the local part, label and domain length limits. Anything else falls back to the
+ * provider's regular expressions.
+ */
+public final class EmailCheck {
+
+    private static final int VALID = 1;
+    private static final int INVALID = 0;
+    private static final int UNDECIDED = -1;
+
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    /**
+     * ASCII characters allowed in an unquoted local part, as bits of two 64-bit masks.
+     */
+    private static final long[] LOCAL_PART_CHARS = asciiMask("abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789!#$%&'*+/=?^_`{|}~-");
+
+    /**
+     * ASCII characters allowed in a domain label, apart from the hyphens between them.
+     */
+    private static final long[] DOMAIN_CHARS = asciiMask("abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789!#$%&'*+/=?^_`{|}~");
+
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_DOMAIN_PART_LENGTH = 255;
+
+    private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
+    private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
+    private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
+                    "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")"
+                    + "(?:\\.(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\"))*",
+                    Pattern.CASE_INSENSITIVE);
+
+    private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
+    private static final String DOMAIN_LABEL = DOMAIN_CHARS_WITHOUT_DASH + "++(?:-++" + DOMAIN_CHARS_WITHOUT_DASH + "++)*+";
+    private static final String DOMAIN = DOMAIN_LABEL + "(?:\\." + DOMAIN_LABEL + ")*+";
+    private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
+    private static final String IP_V6_DOMAIN = "(?:(?:[0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,7}:|(?:[0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,5}(?::[0-9a-fA-F]{1,4}){1,2}|(?:[0-9a-fA-F]{1,4}:){1,4}(?::[0-9a-fA-F]{1,4}){1,3}|(?:[0-9a-fA-F]{1,4}:){1,3}(?::[0-9a-fA-F]{1,4}){1,4}|(?:[0-9a-fA-F]{1,4}:){1,2}(?::[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:(?:(?::[0-9a-fA-F]{1,4}){1,6})|:(?:(?::[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(?::[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(?:ffff(:0{1,4}){0,1}:){0,1}(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])|(?:[0-9a-fA-F]{1,4}:){1,4}:(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
+    private static final Pattern DOMAIN_PATTERN = Pattern.compile(
+                    DOMAIN + "|\\[" + IP_DOMAIN + "\\]|\\[IPv6:" + IP_V6_DOMAIN + "\\]",
+                    Pattern.CASE_INSENSITIVE);
+
+    private EmailCheck() {}
+
+    /**
+     * @param value The value to check
+     * @return Whether the value is null, empty or a well-formed email address
+     */
+    public static boolean isValid(CharSequence value) {
+        if (value == null || value.length() == 0) {
+            return true;
+        }
+        int decision = scanAscii(value);
+        return decision == UNDECIDED ? isValidByPattern(value) : decision == VALID;
+    }
+
+    /**
+     * The provider's algorithm, used for addresses the ASCII scan does not decide
+     */
+    static boolean isValidByPattern(CharSequence value) {
+        // The local part may contain a quoted '@', so split at the last one
+        String address = value.toString();
+        int at = address.lastIndexOf('@');
+        if (at < 0) {
+            return false;
+        }
+        String localPart = address.substring(0, at);
+        if (localPart.length() > MAX_LOCAL_PART_LENGTH || !LOCAL_PART_PATTERN.matcher(localPart).matches()) {
+            return false;
+        }
+        return isValidDomain(address.substring(at + 1));
+    }
+
+    /**
+     * Decide an address in one pass over its characters. An invalid character outside quotes
+     * decides the address whatever follows, so scanning stops at the first non-ASCII character,
+     * quote or address literal only if nothing before it has made the address invalid.
+     *
+     * @return {@link #VALID}, {@link #INVALID} or {@link #UNDECIDED}
+     */
+    private static int scanAscii(CharSequence value) {
+        int length = value.length();
+        int at = -1;
+        for (int i = length - 1; i >= 0; i--) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                at = i;
+                break;
+            }
+            if (c >= 0x80) {
+                return UNDECIDED;
+            }
+        }
+        if (at < 0) {
+            return INVALID;
+        }
+
+        // Local part: dot-separated runs of atom characters
+        if (at == 0 || at > MAX_LOCAL_PART_LENGTH) {
+            return INVALID;
+        }
+        boolean afterDot = true;
+        for (int i = 0; i < at; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80 || c == '"') {
+                return UNDECIDED;
+            }
+            if (c == '.') {
+                if (afterDot) {
+                    return INVALID;
+                }
+                afterDot = true;
+            } else if (isAscii(LOCAL_PART_CHARS, c)) {
+                afterDot = false;
+            } else {
+                return INVALID;
+            }
+        }
+        if (afterDot) {
+            return INVALID;
+        }
+
+        // Domain: dot-separated labels with hyphens only between other characters
+        int domainLength = length - at - 1;
+        if (domainLength == 0) {
+            return INVALID;
+        }
+        if (value.charAt(at + 1) == '[') {
+            return UNDECIDED;
+        }
+        int labelLength = 0;
+        boolean afterHyphen = false;
+        for (int i = at + 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                return UNDECIDED;
+            }
+            if (c == '.') {
+                if (labelLength == 0 || afterHyphen || labelLength > MAX_LABEL_LENGTH) {
+                    return INVALID;
+                }
+                labelLength = 0;
+            } else if (c == '-') {
+                if (labelLength == 0) {
+                    return INVALID;
+                }
+                afterHyphen = true;
+                labelLength++;
+            } else if (isAscii(DOMAIN_CHARS, c)) {
+                afterHyphen = false;
+                labelLength++;
+            } else {
+                return INVALID;
+            }
+        }
+        if (labelLength == 0 || afterHyphen || labelLength > MAX_LABEL_LENGTH || domainLength > MAX_DOMAIN_PART_LENGTH) {
+            return INVALID;
+        }
+        return VALID;
+    }
+
+    private static boolean isAscii(long[] mask, char c) {
+        return (mask[c >>> 6] & (1L << c)) != 0;
+    }
+
+    private static long[] asciiMask(String chars) {
+        long[] mask = new long[2];
+        for (int i = 0; i < chars.length(); i++) {
+            char c = chars.charAt(i);
+            mask[c >>> 6] |= 1L << c;
+        }
+        return mask;
+    }
+
+    private static boolean isValidDomain(String domain) {
+        // IDN.toASCII drops a trailing '.', so reject it first
+        if (domain.endsWith(".")) {
+            return false;
+        }
+        try {
+            if (IDN.toASCII(domain).length() > MAX_DOMAIN_PART_LENGTH) {
+                return false;
+            }
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return DOMAIN_PATTERN.matcher(domain).matches();
+    }
+}
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.fastpath;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.openliberty.jakarta.validation.v31demo.model.GeneratedRecordValidators;
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+/**
+ * Validates model records with the validators generated at build time instead of the provider.
+ * <p>
+ * Groups are handled as the provider handles them: plain groups are validated first, then each
+ * group sequence in order, stopping a sequence at its first group that reports a violation. A
+ * constraint matched by more than one requested group is reported once.
+ * <p>
+ * Violation messages are interpolated by the validator factory's {@link MessageInterpolator} in
+ * its default locale, as the provider does, from the template of the constraint's descriptor.
+ * The descriptor of each generated check is looked up on its first violation and kept. Instances
+ * may be shared by threads.
+ */
+public final class FastValidation {
+
+    private static final Class<?>[] DEFAULT_GROUPS = { Default.class };
+
+    private final Validator metadata;
+    private final MessageInterpolator interpolator;
+
+    private final Map<GeneratedConstraint, ConstraintDescriptor<?>> descriptors = new ConcurrentHashMap<>();
+
+    /**
+     * @param factory The factory whose constraint metadata and message interpolator to use
+     */
+    public FastValidation(ValidatorFactory factory) {
+        this(factory.getValidator(), factory.getMessageInterpolator());
+    }
+
+    /**
+     * @param metadata The validator whose constraint descriptors to interpolate messages from
+     * @param interpolator The message interpolator
+     */
+    public FastValidation(Validator metadata, MessageInterpolator interpolator) {
+        this.metadata = metadata;
+        this.interpolator = interpolator;
+    }
+
+    /**
+     * @param type The record type
+     * @return Whether a generated validator exists for the record type
+     */
+    public static boolean supports(Class<?> type) {
+        return GeneratedRecordValidators.forType(type) != null;
+    }
+
+    /**
+     * Validate a record with its generated validator
+     *
+     * @param record The record to validate
+     * @param groups The groups to validate, Default if none
+     * @return The violations found, or null if no validator was generated for the record type
+     */
+    @SuppressWarnings("unchecked")
+    public List<Violation> validate(Record record, Class<?>... groups) {
+        RecordValidator<Record> validator = (RecordValidator<Record>) GeneratedRecordValidators.forType(record.getClass());
+        if (validator == null) {
+            return null;
+        }
+        if (groups.length == 0) {
+            groups = DEFAULT_GROUPS;
+        }
+
+        List<Violation> violations = new ArrayList<>();
+        if (groups.length == 1) {
+            Class<?>[] sequence = GeneratedRecordValidators.groupSequence(groups[0]);
+            if (sequence == null) {
+                validator.validateGroup(record, groups[0], null, this, violations);
+            } else {
+                for (Class<?> group : sequence) {
+                    validator.validateGroup(record, group, null, this, violations);
+                    if (!violations.isEmpty()) {
+                        break;
+                    }
+                }
+            }
+            return violations;
+        }
+
+        Set<Violation> unique = new LinkedHashSet<>();
+        for (Class<?> group : groups) {
+            if (GeneratedRecordValidators.groupSequence(group) == null) {
+                validator.validateGroup(record, group, null, this, violations);
+                unique.addAll(violations);
+                violations.clear();
+            }
+        }
+        for (Class<?> group : groups) {
+            Class<?>[] sequence = GeneratedRecordValidators.groupSequence(group);
+            if (sequence == null) {
+                continue;
+            }
+            for (Class<?> sequenceGroup : sequence) {
+                int found = unique.size();
+                validator.validateGroup(record, sequenceGroup, null, this, violations);
+                unique.addAll(violations);
+                violations.clear();
+                if (unique.size() > found) {
+                    break;
+                }
+            }
+        }
+        return new ArrayList<>(unique);
+    }
+
+    /**
+     * Interpolate the message of a violation found by a generated validator
+     *
+     * @param constraint The violated constraint
+     * @param value The invalid value
+     * @return The message
+     */
+    public String message(GeneratedConstraint constraint, Object value) {
+        ConstraintDescriptor<?> descriptor = descriptors.get(constraint);
+        if (descriptor == null) {
+            descriptor = descriptors.computeIfAbsent(constraint, this::descriptor);
+        }
+        return interpolator.interpolate(descriptor.getMessageTemplate(), new Context(descriptor, value));
+    }
+
+    private ConstraintDescriptor<?> descriptor(GeneratedConstraint constraint) {
+        PropertyDescriptor property = metadata.getConstraintsForClass(constraint.beanType())
+                        .getConstraintsForProperty(constraint.property());
+        if (property != null) {
+            for (ConstraintDescriptor<?> descriptor : property.getConstraintDescriptors()) {
+                if (matches(descriptor, constraint)) {
+                    return descriptor;
+                }
+            }
+        }
+        throw new ValidationException("No constraint descriptor for the generated check of " + constraint);
+    }
+
+    private static boolean matches(ConstraintDescriptor<?> descriptor, GeneratedConstraint constraint) {
+        if (descriptor.getAnnotation().annotationType() != constraint.annotationType()
+            || !descriptor.getGroups().equals(constraint.groups())) {
+            return false;
+        }
+        for (Map.Entry<String, Long> attribute : constraint.attributes().entrySet()) {
+            if (!(descriptor.getAttributes().get(attribute.getKey()) instanceof Number number)
+                || number.longValue() != attribute.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param group The group being validated
+     * @param constraintGroups The groups a constraint belongs to
+     * @return Whether the constraint is part of the group, directly or through group inheritance
+     */
+    public static boolean appliesTo(Class<?> group, Set<Class<?>> constraintGroups) {
+        for (Class<?> constraintGroup : constraintGroups) {
+            if (constraintGroup.isAssignableFrom(group)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The path of a property of the record at <code>prefix</code>
+     */
+    public static String path(String prefix, String property) {
+        return prefix == null ? property : prefix + "." + property;
+    }
+
+    /**
+     * The check of <code>@NotBlank</code>
+     */
+    public static boolean notBlank(CharSequence value) {
+        return value != null && !value.toString().trim().isEmpty();
+    }
+
+    /**
+     * The context of interpolating a message for a violation found by a generated validator.
+     */
+    private record Context(ConstraintDescriptor<?> descriptor, Object value) implements MessageInterpolator.Context {
+
+        @Override
+        public ConstraintDescriptor<?> getConstraintDescriptor() {
+            return descriptor;
+        }
+
+        @Override
+        public Object getValidatedValue() {
+            return value;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            if (type.isInstance(this)) {
+                return type.cast(this);
+            }
+            throw new ValidationException("Type " + type.getName() + " not supported");
+        }
+    }
+}
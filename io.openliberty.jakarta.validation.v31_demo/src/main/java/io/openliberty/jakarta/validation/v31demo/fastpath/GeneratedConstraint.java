@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.fastpath;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A constraint checked by a generated validator, identifying the provider's descriptor of the
+ * constraint so that violation messages can be interpolated from its template.
+ * <p>
+ * Each is a constant of a generated validator, so instances are compared by identity.
+ */
+public final class GeneratedConstraint {
+
+    private final Class<?> beanType;
+    private final String property;
+    private final Class<? extends Annotation> annotationType;
+    private final Set<Class<?>> groups;
+    private final Map<String, Long> attributes;
+
+    /**
+     * @param beanType The record declaring the constraint
+     * @param property The constrained property
+     * @param annotationType The constraint annotation type
+     * @param groups The groups of the constraint
+     * @param attributes The numeric attributes the processor read, such as <code>min</code> and <code>max</code>
+     */
+    public GeneratedConstraint(Class<?> beanType, String property, Class<? extends Annotation> annotationType,
+                               Set<Class<?>> groups, Map<String, Long> attributes) {
+        this.beanType = beanType;
+        this.property = property;
+        this.annotationType = annotationType;
+        this.groups = groups;
+        this.attributes = attributes;
+    }
+
+    public Class<?> beanType() {
+        return beanType;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public Class<? extends Annotation> annotationType() {
+        return annotationType;
+    }
+
+    public Set<Class<?>> groups() {
+        return groups;
+    }
+
+    public Map<String, Long> attributes() {
+        return attributes;
+    }
+
+    @Override
+    public String toString() {
+        return "@" + annotationType.getSimpleName() + " on " + beanType.getSimpleName() + "." + property;
+    }
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.fastpath;
+
+import java.util.List;
+
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+
+/**
+ * A validator generated at build time for one record type.
+ * <p>
+ * Implementations are generated by the <code>v31demo-processor</code> annotation processor and
+ * looked up through {@link FastValidation}.
+ *
+ * @param <T> The record type
+ */
+public interface RecordValidator<T extends Record> {
+
+    /**
+     * @return The record type this validator checks
+     */
+    Class<T> type();
+
+    /**
+     * Check the constraints of a single group, which must not be a group sequence, cascading into
+     * nested records.
+     *
+     * @param record The record to check
+     * @param group The group being validated
+     * @param path The path of the record within the validated object, or null for the root
+     * @param validation Interpolates the messages of the violations
+     * @param violations Receives the violations found
+     */
+    void validateGroup(T record, Class<?> group, String path, FastValidation validation, List<Violation> violations);
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.result;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+
+/**
+ * The data of a single constraint violation, detached from the provider's
+ * {@link ConstraintViolation} so that it can be rendered or stored without re-parsing.
+ *
+ * @param path The property path, e.g. <code>email.value</code>
+ * @param message The interpolated message
+ * @param constraintType The constraint annotation type, e.g. <code>NotNull</code>
+ * @param invalidValue The value that failed validation
+ * @param groups The groups the violated constraint belongs to
+ */
+public record Violation(String path, String message, Class<? extends Annotation> constraintType,
+                        Object invalidValue, Set<Class<?>> groups) {
+
+    /**
+     * Capture the data of a provider violation
+     * @param violation The violation reported by the validator
+     * @return The violation data
+     */
+    public static Violation of(ConstraintViolation<?> violation) {
+        return new Violation(violation.getPropertyPath().toString(),
+                             violation.getMessage(),
+                             violation.getConstraintDescriptor().getAnnotation().annotationType(),
+                             violation.getInvalidValue(),
+                             violation.getConstraintDescriptor().getGroups());
+    }
+
+    /**
+     * @return The constraint annotation as written in source, e.g. <code>@NotNull</code>
+     */
+    public String constraintName() {
+        return "@" + constraintType.getSimpleName();
+    }
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.result;
+
+/**
+ * Renders {@link Violation}s as HTML table rows.
+ */
+public final class ViolationHtml {
+
+    /**
+     * Header row matching the cells written by {@link #appendRow(StringBuilder, String, Violation)}.
+     */
+    public static final String HEADER_ROW = "<tr><th>Type</th><th>Path</th><th>Message</th><th>Constraint</th></tr>\n";
+
+    /**
+     * Number of cells in a violation row.
+     */
+    public static final int COLUMNS = 4;
+
+    private ViolationHtml() {
+    }
+
+    /**
+     * Append a table row for a violation
+     * @param out The page being rendered
+     * @param label The kind of violation shown in the first column, e.g. <code>Cascade Violation</code>
+     * @param violation The violation to render
+     */
+    public static void appendRow(StringBuilder out, String label, Violation violation) {
+        out.append("<tr><td>");
+        escape(out, label);
+        out.append("</td><td>");
+        escape(out, violation.path());
+        out.append("</td><td>");
+        escape(out, violation.message());
+        out.append("</td><td><span class=\"constraint\">").append(violation.constraintName()).append("</span></td></tr>\n");
+    }
+
+    /**
+     * Append text with HTML special characters escaped
+     * @param out The page being rendered
+     * @param text The text to append
+     */
+    public static void escape(StringBuilder out, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<':
+                    out.append("&lt;");
+                    break;
+                case '>':
+                    out.append("&gt;");
+                    break;
+                case '&':
+                    out.append("&amp;");
+                    break;
+                case '"':
+                    out.append("&quot;");
+                    break;
+                default:
+                    out.append(c);
+            }
+        }
+    }
+}
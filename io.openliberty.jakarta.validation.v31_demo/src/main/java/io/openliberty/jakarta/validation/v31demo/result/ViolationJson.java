@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.result;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Writes {@link Violation}s directly to a JSON stream.
+ */
+public final class ViolationJson {
+
+    private ViolationJson() {
+    }
+
+    /**
+     * Write an array of violations as the value of the named field
+     * @param out The generator, positioned inside an object
+     * @param name The field name
+     * @param violations The violations to write
+     */
+    public static void writeArray(JsonGenerator out, String name, Iterable<Violation> violations) {
+        out.writeStartArray(name);
+        for (Violation violation : violations) {
+            write(out, violation);
+        }
+        out.writeEnd();
+    }
+
+    /**
+     * Write a violation as an array element
+     * @param out The generator, positioned inside an array
+     * @param violation The violation to write
+     */
+    public static void write(JsonGenerator out, Violation violation) {
+        out.writeStartObject();
+        out.write("path", violation.path());
+        out.write("message", violation.message());
+        out.write("constraint", violation.constraintType().getSimpleName());
+        writeValue(out, "invalidValue", violation.invalidValue());
+        out.writeStartArray("groups");
+        for (Class<?> group : violation.groups()) {
+            out.write(group.getSimpleName());
+        }
+        out.writeEnd();
+        out.writeEnd();
+    }
+
+    private static void writeValue(JsonGenerator out, String name, Object value) {
+        if (value == null) {
+            out.writeNull(name);
+        } else if (value instanceof Boolean b) {
+            out.write(name, b);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            out.write(name, ((Number) value).longValue());
+        } else if (value instanceof BigInteger i) {
+            out.write(name, i);
+        } else if (value instanceof BigDecimal d) {
+            out.write(name, d);
+        } else if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            if (Double.isFinite(d)) {
+                out.write(name, d);
+            } else {
+                out.write(name, value.toString());
+            }
+        } else {
+            out.write(name, value.toString());
+        }
+    }
+}
@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.result;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Reads a binary violation report written by {@link ViolationReportWriter}.
+ * <p>
+ * Opening a report reads only its header and footer: the counts, the dictionaries and the block
+ * index. Rows are decoded a block at a time from a read-only mapping of the file as they are
+ * visited, so reports larger than memory can be read, and a query by constraint decodes only the
+ * blocks that contain it. Constraint and group classes are loaded on first use with the context
+ * class loader. Instances are not thread-safe.
+ */
+public final class ViolationReport implements Closeable {
+
+    /**
+     * A record of the input that has violations or could not be read.
+     *
+     * @param line The input line of the record
+     * @param error Why the record could not be read, or null
+     * @param violations Its violations, empty if it could not be read
+     */
+    public record Row(long line, String error, List<Violation> violations) {
+    }
+
+    private final FileChannel channel;
+    private final long rows;
+    private final long violations;
+    private final long unreadable;
+    private final long footer;
+
+    private final String[][] dictionaries = new String[ViolationReportFormat.KINDS][];
+    private final long[] constraintCounts;
+    private final long[] blockOffsets;
+    private final BitSet[] blockConstraints;
+
+    private final Class<? extends Annotation>[] constraintTypes;
+    private final Set<Class<?>>[] groups;
+
+    private ViolationReport(FileChannel channel) throws IOException {
+        this.channel = channel;
+        if (channel.size() < ViolationReportFormat.HEADER_SIZE) {
+            throw new IOException("Not a violation report");
+        }
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, ViolationReportFormat.HEADER_SIZE);
+        if (header.getInt() != ViolationReportFormat.MAGIC) {
+            throw new IOException("Not a violation report");
+        }
+        int version = header.getInt();
+        if (version != ViolationReportFormat.VERSION) {
+            throw new IOException("Unsupported violation report version " + version);
+        }
+        rows = header.getLong();
+        violations = header.getLong();
+        unreadable = header.getLong();
+        footer = header.getLong();
+
+        MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, footer, channel.size() - footer);
+        for (int kind = 0; kind < ViolationReportFormat.KINDS; kind++) {
+            String[] values = new String[getIntVarint(in)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = getText(in);
+            }
+            dictionaries[kind] = values;
+        }
+        constraintCounts = new long[dictionaries[ViolationReportFormat.CONSTRAINTS].length];
+        for (int i = 0; i < constraintCounts.length; i++) {
+            constraintCounts[i] = getVarint(in);
+        }
+        int blocks = getIntVarint(in);
+        blockOffsets = new long[blocks + 1];
+        blockConstraints = new BitSet[blocks];
+        for (int i = 0; i < blocks; i++) {
+            blockOffsets[i] = getVarint(in);
+            long[] words = new long[getIntVarint(in)];
+            for (int w = 0; w < words.length; w++) {
+                words[w] = in.getLong();
+            }
+            blockConstraints[i] = BitSet.valueOf(words);
+        }
+        blockOffsets[blocks] = footer;
+
+        constraintTypes = newArray(Class.class, constraintCounts.length);
+        groups = newArray(Set.class, dictionaries[ViolationReportFormat.GROUPS].length);
+    }
+
+    /**
+     * Create an array of a generic type, whose component class can only be given raw
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] newArray(Class<?> componentType, int length) {
+        return (T[]) Array.newInstance(componentType, length);
+    }
+
+    /**
+     * Open a report for reading
+     */
+    public static ViolationReport open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new ViolationReport(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return The number of rows, both records with violations and unreadable records
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * @return The number of violations of all rows
+     */
+    public long violations() {
+        return violations;
+    }
+
+    /**
+     * @return The number of records that could not be read
+     */
+    public long unreadable() {
+        return unreadable;
+    }
+
+    /**
+     * @return The number of violations of each constraint type, by class name, in order of first occurrence
+     */
+    public Map<String, Long> countsByConstraint() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        String[] names = dictionaries[ViolationReportFormat.CONSTRAINTS];
+        for (int i = 0; i < names.length; i++) {
+            counts.put(names[i], constraintCounts[i]);
+        }
+        return counts;
+    }
+
+    /**
+     * Visit every row in line order
+     */
+    public void forEach(Consumer<Row> action) throws IOException {
+        for (int block = 0; block < blockConstraints.length; block++) {
+            readBlock(block, -1, action);
+        }
+    }
+
+    /**
+     * Visit the rows with violations of a constraint type, in line order, each with only its
+     * violations of that type. Blocks without the type are skipped without being read.
+     *
+     * @param constraint The class name or simple name of the constraint annotation, e.g. <code>Email</code>
+     */
+    public void forEach(String constraint, Consumer<Row> action) throws IOException {
+        String[] names = dictionaries[ViolationReportFormat.CONSTRAINTS];
+        for (int id = 0; id < names.length; id++) {
+            String name = names[id];
+            if (name.equals(constraint) || name.endsWith("." + constraint) || name.endsWith("$" + constraint)) {
+                for (int block = 0; block < blockConstraints.length; block++) {
+                    if (blockConstraints[block].get(id)) {
+                        readBlock(block, id, action);
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Decode the rows of a block
+     *
+     * @param constraint The id of the constraint whose violations to keep, or -1 for all rows
+     */
+    private void readBlock(int block, int constraint, Consumer<Row> action) throws IOException {
+        long offset = blockOffsets[block];
+        MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, offset, blockOffsets[block + 1] - offset);
+        long line = 0;
+        boolean first = true;
+        while (in.hasRemaining()) {
+            long delta = getVarint(in);
+            line = first ? delta : line + delta;
+            first = false;
+            int count = getIntVarint(in);
+            if (count == 0) {
+                String error = dictionaries[ViolationReportFormat.ERRORS][getIntVarint(in)];
+                if (constraint < 0) {
+                    action.accept(new Row(line, error, List.of()));
+                }
+                continue;
+            }
+            List<Violation> rowViolations = new ArrayList<>(constraint < 0 ? count : 1);
+            for (int i = 0; i < count; i++) {
+                String path = dictionaries[ViolationReportFormat.PATHS][getIntVarint(in)];
+                int type = getIntVarint(in);
+                String message = dictionaries[ViolationReportFormat.MESSAGES][getIntVarint(in)];
+                int groupsId = getIntVarint(in);
+                Object value = getValue(in);
+                if (constraint < 0 || type == constraint) {
+                    rowViolations.add(new Violation(path, message, constraintType(type), value, groups(groupsId)));
+                }
+            }
+            if (!rowViolations.isEmpty()) {
+                action.accept(new Row(line, null, rowViolations));
+            }
+        }
+    }
+
+    private Class<? extends Annotation> constraintType(int id) {
+        Class<? extends Annotation> type = constraintTypes[id];
+        if (type == null) {
+            type = load(dictionaries[ViolationReportFormat.CONSTRAINTS][id]).asSubclass(Annotation.class);
+            constraintTypes[id] = type;
+        }
+        return type;
+    }
+
+    private Set<Class<?>> groups(int id) {
+        Set<Class<?>> set = groups[id];
+        if (set == null) {
+            List<Class<?>> classes = new ArrayList<>();
+            for (String name : dictionaries[ViolationReportFormat.GROUPS][id].split(",")) {
+                if (!name.isEmpty()) {
+                    classes.add(load(name));
+                }
+            }
+            set = Set.copyOf(classes);
+            groups[id] = set;
+        }
+        return set;
+    }
+
+    private static Class<?> load(String name) {
+        try {
+            return Class.forName(name, false, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Class " + name + " of the violation report is not available", e);
+        }
+    }
+
+    private static Object getValue(ByteBuffer in) {
+        byte tag = in.get();
+        return switch (tag) {
+            case ViolationReportFormat.NULL -> null;
+            case ViolationReportFormat.FALSE -> Boolean.FALSE;
+            case ViolationReportFormat.TRUE -> Boolean.TRUE;
+            case ViolationReportFormat.INTEGER -> {
+                long zigzag = getVarint(in);
+                yield (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+            case ViolationReportFormat.DOUBLE -> in.getDouble();
+            case ViolationReportFormat.DECIMAL -> new BigDecimal(getText(in));
+            case ViolationReportFormat.TEXT -> getText(in);
+            default -> throw new IllegalStateException("Unknown value tag " + tag + " at " + (in.position() - 1));
+        };
+    }
+
+    private static String getText(ByteBuffer in) {
+        byte[] bytes = new byte[getIntVarint(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long getVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0;; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+            if (shift > 56) {
+                throw new IllegalStateException("Malformed varint at " + (in.position() - 1));
+            }
+        }
+    }
+
+    private static int getIntVarint(ByteBuffer in) {
+        long value = getVarint(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Varint out of range at " + in.position());
+        }
+        return (int) value;
+    }
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.result;
+
+/**
+ * Layout of the binary violation report shared by {@link ViolationReportWriter} and
+ * {@link ViolationReport}.
+ * <p>
+ * A report starts with a fixed header: the magic number, the format version, the number of
+ * rows, violations and unreadable rows, and the offset of the footer. Rows follow in blocks of
+ * {@link #BLOCK_ROWS}, each row being
+ * <pre>
+ * varint line - previous line in the block (the first row's line is absolute)
+ * varint number of violations, or 0 for an unreadable row followed by varint error id
+ * per violation: varint path id, constraint id, message id, groups id, then the invalid value
+ * </pre>
+ * An invalid value is a tag byte followed by nothing ({@link #NULL}, {@link #FALSE},
+ * {@link #TRUE}), a zigzag varint ({@link #INTEGER}), 8 bytes ({@link #DOUBLE}) or a varint
+ * length and UTF-8 bytes ({@link #DECIMAL}, {@link #TEXT}).
+ * <p>
+ * The footer holds the dictionaries, one per kind up to {@link #KINDS}, each a varint count and
+ * varint length prefixed UTF-8 strings; a varint count of violations per constraint; and the
+ * block index, a varint count and per block its varint offset and the bitset of the constraints
+ * it contains, as a varint number of words and the words. Queries by constraint use the bitsets
+ * to skip the other blocks.
+ */
+final class ViolationReportFormat {
+
+    static final int MAGIC = 0x56524550; // "VREP"
+    static final int VERSION = 1;
+
+    /**
+     * Magic, version, rows, violations, unreadable rows and footer offset
+     */
+    static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8 + 8;
+
+    static final int BLOCK_ROWS = 4096;
+
+    static final int PATHS = 0;
+    static final int CONSTRAINTS = 1;
+    static final int MESSAGES = 2;
+    static final int GROUPS = 3;
+    static final int ERRORS = 4;
+    static final int KINDS = 5;
+
+    static final byte NULL = 0;
+    static final byte FALSE = 1;
+    static final byte TRUE = 2;
+    static final byte INTEGER = 3;
+    static final byte DOUBLE = 4;
+    static final byte DECIMAL = 5;
+    static final byte TEXT = 6;
+
+    private ViolationReportFormat() {
+    }
+}
@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.result;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the violations of a bulk run to a compact binary report, read back with
+ * {@link ViolationReport}.
+ * <p>
+ * Paths, constraint types, messages, groups and errors are stored once each in dictionaries and
+ * referred to by varint ids, and line numbers as varint deltas, so a violation of a record with
+ * a null component takes about six bytes. The file is written through memory-mapped windows,
+ * without an intermediate buffer. Rows must be written in increasing line order by a single
+ * thread. The report is complete only once the writer is closed.
+ */
+public final class ViolationReportWriter implements Closeable {
+
+    private static final int WINDOW_SIZE = 64 << 20;
+
+    /**
+     * The most bytes the fixed part of a violation takes: four varint ids and a value tag
+     */
+    private static final int MAX_VIOLATION_SIZE = 4 * 5 + 1 + 10;
+
+    private final FileChannel channel;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    private final Dictionary[] dictionaries = new Dictionary[ViolationReportFormat.KINDS];
+    private final Map<Class<?>, Integer> constraintIds = new HashMap<>();
+    private final Map<Set<Class<?>>, Integer> groupIds = new HashMap<>();
+    private long[] constraintCounts = new long[16];
+
+    private final List<Block> blocks = new ArrayList<>();
+    private Block block;
+    private long previousLine;
+
+    private long rows;
+    private long violations;
+    private long unreadable;
+
+    /**
+     * Strings of one kind, with ids in order of first use.
+     */
+    private static final class Dictionary {
+        final Map<String, Integer> ids = new HashMap<>();
+        final List<String> values = new ArrayList<>();
+
+        int id(String value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                ids.put(value, id);
+                values.add(value);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * A block of rows and the constraints its violations belong to.
+     */
+    private static final class Block {
+        final long offset;
+        final BitSet constraints = new BitSet();
+        int rows;
+
+        Block(long offset) {
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Create a report, replacing any existing file
+     */
+    public ViolationReportWriter(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                   StandardOpenOption.READ, StandardOpenOption.WRITE);
+        for (int kind = 0; kind < ViolationReportFormat.KINDS; kind++) {
+            dictionaries[kind] = new Dictionary();
+        }
+        windowStart = ViolationReportFormat.HEADER_SIZE;
+        window = channel.map(FileChannel.MapMode.READ_WRITE, windowStart, WINDOW_SIZE);
+    }
+
+    /**
+     * Add a record with violations
+     *
+     * @param line The input line of the record
+     * @param recordViolations Its violations, at least one
+     */
+    public void write(long line, List<Violation> recordViolations) throws IOException {
+        if (recordViolations.isEmpty()) {
+            throw new IllegalArgumentException("A row needs at least one violation");
+        }
+        startRow(line);
+        putVarint(window, recordViolations.size());
+        for (Violation violation : recordViolations) {
+            ensure(MAX_VIOLATION_SIZE);
+            int constraint = constraintId(violation.constraintType());
+            putVarint(window, dictionaries[ViolationReportFormat.PATHS].id(violation.path()));
+            putVarint(window, constraint);
+            putVarint(window, dictionaries[ViolationReportFormat.MESSAGES].id(violation.message()));
+            putVarint(window, groupsId(violation.groups()));
+            putValue(violation.invalidValue());
+
+            block.constraints.set(constraint);
+            if (constraint == constraintCounts.length) {
+                constraintCounts = Arrays.copyOf(constraintCounts, constraint * 2);
+            }
+            constraintCounts[constraint]++;
+        }
+        violations += recordViolations.size();
+    }
+
+    /**
+     * Add a record that could not be read
+     *
+     * @param line The input line of the record
+     * @param error Why it could not be read
+     */
+    public void writeError(long line, String error) throws IOException {
+        startRow(line);
+        putVarint(window, 0);
+        putVarint(window, dictionaries[ViolationReportFormat.ERRORS].id(String.valueOf(error)));
+        unreadable++;
+    }
+
+    /**
+     * Write the dictionaries, index and header, and trim the file to its content
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            long footer = position();
+            for (Dictionary dictionary : dictionaries) {
+                ensure(5);
+                putVarint(window, dictionary.values.size());
+                for (String value : dictionary.values) {
+                    putText(value);
+                }
+            }
+            int constraints = dictionaries[ViolationReportFormat.CONSTRAINTS].values.size();
+            for (int i = 0; i < constraints; i++) {
+                ensure(10);
+                putVarint(window, constraintCounts[i]);
+            }
+            ensure(5);
+            putVarint(window, blocks.size());
+            for (Block indexed : blocks) {
+                long[] words = indexed.constraints.toLongArray();
+                ensure(10 + 5 + words.length * 8);
+                putVarint(window, indexed.offset);
+                putVarint(window, words.length);
+                for (long word : words) {
+                    window.putLong(word);
+                }
+            }
+            long end = position();
+
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, ViolationReportFormat.HEADER_SIZE);
+            header.putInt(ViolationReportFormat.MAGIC).putInt(ViolationReportFormat.VERSION);
+            header.putLong(rows).putLong(violations).putLong(unreadable).putLong(footer);
+            header.force();
+            window.force();
+            window = null;
+            try {
+                channel.truncate(end);
+            } catch (IOException e) {
+                // Windows cannot shorten a file while it is mapped; readers ignore the zeros after the footer
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void startRow(long line) throws IOException {
+        if (line < previousLine) {
+            throw new IllegalArgumentException("Line " + line + " written after line " + previousLine);
+        }
+        ensure(2 * 10);
+        long delta = line - previousLine;
+        if (block == null || block.rows == ViolationReportFormat.BLOCK_ROWS) {
+            block = new Block(position());
+            blocks.add(block);
+            delta = line;
+        }
+        putVarint(window, delta);
+        previousLine = line;
+        block.rows++;
+        rows++;
+    }
+
+    private int constraintId(Class<?> type) {
+        Integer id = constraintIds.get(type);
+        if (id == null) {
+            id = dictionaries[ViolationReportFormat.CONSTRAINTS].id(type.getName());
+            constraintIds.put(type, id);
+        }
+        return id;
+    }
+
+    private int groupsId(Set<Class<?>> groups) {
+        Integer id = groupIds.get(groups);
+        if (id == null) {
+            String names = groups.stream().map(Class::getName).sorted().collect(Collectors.joining(","));
+            id = dictionaries[ViolationReportFormat.GROUPS].id(names);
+            groupIds.put(Set.copyOf(groups), id);
+        }
+        return id;
+    }
+
+    /**
+     * Write an invalid value with the tag that keeps the JSON form it has in {@link ViolationJson}
+     */
+    private void putValue(Object value) throws IOException {
+        if (value == null) {
+            window.put(ViolationReportFormat.NULL);
+        } else if (value instanceof Boolean b) {
+            window.put(b ? ViolationReportFormat.TRUE : ViolationReportFormat.FALSE);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            long number = ((Number) value).longValue();
+            window.put(ViolationReportFormat.INTEGER);
+            putVarint(window, (number << 1) ^ (number >> 63));
+        } else if ((value instanceof Double || value instanceof Float) && Double.isFinite(((Number) value).doubleValue())) {
+            window.put(ViolationReportFormat.DOUBLE);
+            window.putDouble(((Number) value).doubleValue());
+        } else if (value instanceof BigInteger || value instanceof BigDecimal) {
+            window.put(ViolationReportFormat.DECIMAL);
+            putText(value.toString());
+        } else {
+            window.put(ViolationReportFormat.TEXT);
+            putText(value.toString());
+        }
+    }
+
+    private void putText(String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        ensure(5 + bytes.length);
+        putVarint(window, bytes.length);
+        window.put(bytes);
+    }
+
+    private long position() {
+        return windowStart + window.position();
+    }
+
+    /**
+     * Map the next window of the file if the current one has fewer bytes left
+     */
+    private void ensure(int bytes) throws IOException {
+        if (window.remaining() < bytes) {
+            long position = position();
+            window = channel.map(FileChannel.MapMode.READ_WRITE, position, Math.max(WINDOW_SIZE, bytes));
+            windowStart = position;
+        }
+    }
+
+    private static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+}
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A concurrency limit that adapts to observed latency, with a short bounded wait queue.
+ * <p>
+ * The limit grows additively, by one per limit's worth of calls, while calls finish within the
+ * target latency and at least half of the limit is in use. It shrinks by 10% when a call takes
+ * longer than the target, at most once per target latency so one burst of slow calls does not
+ * collapse it. Calls over the limit wait up to the maximum wait for another call to finish,
+ * unless the queue is already full. Admission within the limit takes no lock; only waiting calls
+ * and the calls that wake them take one.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    private static final double BACKOFF = 0.9;
+
+    /**
+     * The configuration of a limit.
+     *
+     * @param initialLimit The limit before any call has finished
+     * @param minLimit The lowest the limit may shrink to
+     * @param maxLimit The highest the limit may grow to
+     * @param queueSize The number of calls that may wait for capacity at once
+     * @param maxWaitMillis How long a call may wait for capacity
+     * @param targetLatencyMillis The latency above which the limit shrinks
+     */
+    public record Settings(int initialLimit, int minLimit, int maxLimit, int queueSize, long maxWaitMillis,
+                           long targetLatencyMillis) {
+
+        public Settings {
+            if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit: "
+                                                   + minLimit + ", " + initialLimit + ", " + maxLimit);
+            }
+            if (queueSize < 0 || maxWaitMillis < 0 || targetLatencyMillis < 1) {
+                throw new IllegalArgumentException("Invalid queue size, wait or target latency: "
+                                                   + queueSize + ", " + maxWaitMillis + ", " + targetLatencyMillis);
+            }
+        }
+    }
+
+    /**
+     * The result of asking for admission.
+     */
+    public enum Outcome {
+        ADMITTED,
+        QUEUE_FULL,
+        TIMED_OUT
+    }
+
+    private final Settings settings;
+    private final long maxWaitNanos;
+    private final long targetLatencyNanos;
+
+    private final AtomicLong limitBits;
+    private final AtomicLong lastDecrease = new AtomicLong(System.nanoTime());
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private final LongAdder queueFull = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public AdaptiveConcurrencyLimit(Settings settings) {
+        this.settings = settings;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(settings.maxWaitMillis());
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(settings.targetLatencyMillis());
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(settings.initialLimit()));
+    }
+
+    /**
+     * Admit a call now, after waiting for capacity, or not at all. An admitted call must be
+     * followed by {@link #release(long)}.
+     */
+    public Outcome acquire() {
+        if (tryAcquire()) {
+            return Outcome.ADMITTED;
+        }
+        if (queued.incrementAndGet() > settings.queueSize()) {
+            queued.decrementAndGet();
+            queueFull.increment();
+            return Outcome.QUEUE_FULL;
+        }
+        try {
+            long remaining = maxWaitNanos;
+            lock.lock();
+            try {
+                while (!tryAcquire()) {
+                    if (remaining <= 0) {
+                        timedOut.increment();
+                        return Outcome.TIMED_OUT;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                return Outcome.ADMITTED;
+            } finally {
+                lock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut.increment();
+            return Outcome.TIMED_OUT;
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * Finish an admitted call and adjust the limit to its latency
+     */
+    public void release(long latencyNanos) {
+        int used = inFlight.getAndDecrement();
+        if (latencyNanos > targetLatencyNanos) {
+            long now = System.nanoTime();
+            long last = lastDecrease.get();
+            if (now - last >= targetLatencyNanos && lastDecrease.compareAndSet(last, now)) {
+                update(limit -> Math.max(settings.minLimit(), limit * BACKOFF));
+            }
+        } else if (used * 2 >= limit()) {
+            update(limit -> Math.min(settings.maxLimit(), limit + 1 / limit));
+        }
+        if (queued.get() > 0) {
+            lock.lock();
+            try {
+                released.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean tryAcquire() {
+        int limit = limit();
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void update(DoubleUnaryOperator change) {
+        for (;;) {
+            long bits = limitBits.get();
+            long updated = Double.doubleToLongBits(change.applyAsDouble(Double.longBitsToDouble(bits)));
+            if (bits == updated || limitBits.compareAndSet(bits, updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return The current number of calls admitted at once
+     */
+    public int limit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+
+    /**
+     * @return The number of calls rejected with the outcome
+     */
+    public long rejected(Outcome outcome) {
+        return switch (outcome) {
+            case QUEUE_FULL -> queueFull.sum();
+            case TIMED_OUT -> timedOut.sum();
+            case ADMITTED -> 0;
+        };
+    }
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.microprofile.config.Config;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Holds an {@link AdaptiveConcurrencyLimit} for each validation endpoint and publishes their
+ * limits, calls in flight, queued calls and rejections as metrics labelled by endpoint.
+ * <p>
+ * Each setting is read from <code>validation.admission.&lt;endpoint&gt;.&lt;setting&gt;</code>,
+ * falling back to <code>validation.admission.&lt;setting&gt;</code> and then to a built-in default.
+ * An endpoint whose <code>enabled</code> setting is false has no limit.
+ */
+@ApplicationScoped
+public class AdmissionControl {
+
+    /**
+     * The endpoints that can be limited
+     */
+    public static final List<String> ENDPOINTS = List.of("validate", "batch", "demo", "benchmark");
+
+    static final AttributeKey<String> ENDPOINT = AttributeKey.stringKey("validation.endpoint");
+    static final AttributeKey<String> REASON = AttributeKey.stringKey("validation.rejection.reason");
+
+    @Inject
+    private Meter meter;
+
+    @Inject
+    private Config config;
+
+    private Map<String, AdaptiveConcurrencyLimit> limits;
+    private Map<String, Long> retryAfterSeconds;
+
+    private final List<AutoCloseable> instruments = new ArrayList<>();
+
+    @PostConstruct
+    void init() {
+        Map<String, AdaptiveConcurrencyLimit> configured = new LinkedHashMap<>();
+        Map<String, Long> retryAfter = new LinkedHashMap<>();
+        for (String endpoint : ENDPOINTS) {
+            if (!setting(endpoint, "enabled", Boolean.class, true)) {
+                continue;
+            }
+            configured.put(endpoint, new AdaptiveConcurrencyLimit(new AdaptiveConcurrencyLimit.Settings(
+                            setting(endpoint, "initialLimit", Integer.class, 20),
+                            setting(endpoint, "minLimit", Integer.class, 1),
+                            setting(endpoint, "maxLimit", Integer.class, 200),
+                            setting(endpoint, "queueSize", Integer.class, 50),
+                            setting(endpoint, "maxWaitMillis", Long.class, 50L),
+                            setting(endpoint, "targetLatencyMillis", Long.class, 100L))));
+            retryAfter.put(endpoint, setting(endpoint, "retryAfterSeconds", Long.class, 1L));
+        }
+        limits = Collections.unmodifiableMap(configured);
+        retryAfterSeconds = Collections.unmodifiableMap(retryAfter);
+
+        instruments.add(meter.gaugeBuilder("validation.admission.limit")
+                        .setDescription("Adaptive concurrency limit of a validation endpoint")
+                        .setUnit("{request}")
+                        .ofLongs()
+                        .buildWithCallback(measurement -> observe(measurement, AdaptiveConcurrencyLimit::limit)));
+        instruments.add(meter.gaugeBuilder("validation.admission.inflight")
+                        .setDescription("Admitted requests in progress on a validation endpoint")
+                        .setUnit("{request}")
+                        .ofLongs()
+                        .buildWithCallback(measurement -> observe(measurement, AdaptiveConcurrencyLimit::inFlight)));
+        instruments.add(meter.gaugeBuilder("validation.admission.queued")
+                        .setDescription("Requests waiting for admission to a validation endpoint")
+                        .setUnit("{request}")
+                        .ofLongs()
+                        .buildWithCallback(measurement -> observe(measurement, AdaptiveConcurrencyLimit::queued)));
+        instruments.add(meter.counterBuilder("validation.admission.rejections")
+                        .setDescription("Requests to a validation endpoint rejected with 503")
+                        .setUnit("{request}")
+                        .buildWithCallback(measurement -> limits.forEach((endpoint, limit) -> {
+                            for (AdaptiveConcurrencyLimit.Outcome outcome : List.of(AdaptiveConcurrencyLimit.Outcome.QUEUE_FULL,
+                                                                                     AdaptiveConcurrencyLimit.Outcome.TIMED_OUT)) {
+                                measurement.record(limit.rejected(outcome),
+                                                   Attributes.of(ENDPOINT, endpoint, REASON, outcome.name().toLowerCase(Locale.ROOT)));
+                            }
+                        })));
+    }
+
+    @PreDestroy
+    void close() {
+        for (AutoCloseable instrument : instruments) {
+            try {
+                instrument.close();
+            } catch (Exception e) {
+                // The instrument stops reporting either way
+            }
+        }
+    }
+
+    /**
+     * @param endpoint One of {@link #ENDPOINTS}
+     * @return The endpoint's limit, or null if it is not limited
+     */
+    public AdaptiveConcurrencyLimit forEndpoint(String endpoint) {
+        return limits.get(endpoint);
+    }
+
+    /**
+     * @return The seconds a rejected client of the endpoint is asked to wait before retrying
+     */
+    public long retryAfterSeconds(String endpoint) {
+        return retryAfterSeconds.getOrDefault(endpoint, 1L);
+    }
+
+    private <T> T setting(String endpoint, String name, Class<T> type, T defaultValue) {
+        return config.getOptionalValue("validation.admission." + endpoint + "." + name, type)
+                        .or(() -> config.getOptionalValue("validation.admission." + name, type))
+                        .orElse(defaultValue);
+    }
+
+    private void observe(ObservableLongMeasurement measurement, ToLongFunction<AdaptiveConcurrencyLimit> value) {
+        limits.forEach((endpoint, limit) -> measurement.record(value.applyAsLong(limit), Attributes.of(ENDPOINT, endpoint)));
+    }
+}
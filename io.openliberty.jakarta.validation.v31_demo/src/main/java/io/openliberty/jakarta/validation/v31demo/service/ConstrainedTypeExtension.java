@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.AnnotatedWildcardType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.openliberty.jakarta.validation.v31demo.model.Person;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.AnnotatedMethod;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
+import jakarta.enterprise.inject.spi.WithAnnotations;
+import jakarta.enterprise.inject.spi.configurator.AnnotatedMethodConfigurator;
+import jakarta.enterprise.inject.spi.configurator.AnnotatedTypeConfigurator;
+import jakarta.interceptor.Interceptor;
+import jakarta.validation.Constraint;
+import jakarta.validation.Valid;
+
+/**
+ * CDI extension that collects the types of the model package that declare constraints or
+ * cascades, as the container discovers them, so they can be warmed up at startup.
+ * <p>
+ * It also moves {@link ValidateMethods} from a bean class to those of its methods that have
+ * constrained or cascaded parameters or return values, here or on the methods they override, so
+ * {@link MethodValidationInterceptor} is not called for the others.
+ */
+public class ConstrainedTypeExtension implements Extension {
+
+    private static final String MODEL_PACKAGE = Person.class.getPackageName();
+
+    private final Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constraint annotations are matched through their <code>@Constraint</code> meta-annotation,
+     * on the type, its members or their parameters.
+     */
+    <T> void collect(@Observes @WithAnnotations({ Constraint.class, Valid.class }) ProcessAnnotatedType<T> event) {
+        Class<T> type = event.getAnnotatedType().getJavaClass();
+        if (MODEL_PACKAGE.equals(type.getPackageName())) {
+            types.add(type);
+        }
+    }
+
+    <T> void bindConstrainedMethods(@Observes @WithAnnotations(ValidateMethods.class) ProcessAnnotatedType<T> event) {
+        if (!event.getAnnotatedType().isAnnotationPresent(ValidateMethods.class)
+            || event.getAnnotatedType().isAnnotationPresent(Interceptor.class)) {
+            return;
+        }
+        AnnotatedTypeConfigurator<T> configurator = event.configureAnnotatedType();
+        configurator.remove(annotation -> annotation.annotationType() == ValidateMethods.class);
+        for (AnnotatedMethodConfigurator<? super T> method : configurator.methods()) {
+            AnnotatedMethod<? super T> annotated = method.getAnnotated();
+            if (!annotated.isStatic() && isConstrained(annotated.getJavaMember())) {
+                method.add(ValidateMethods.Literal.INSTANCE);
+            }
+        }
+    }
+
+    /**
+     * @return The constrained model types, ordered by name
+     */
+    public List<Class<?>> constrainedTypes() {
+        return types.stream().sorted(Comparator.comparing(Class::getName)).toList();
+    }
+
+    /**
+     * @return Whether the method, or a method it overrides, declares constraints or cascades on
+     *         itself, its return type or its parameters
+     */
+    private static boolean isConstrained(Method method) {
+        for (Class<?> type : hierarchy(method.getDeclaringClass(), new ArrayList<>())) {
+            Method declared;
+            try {
+                declared = type.getDeclaredMethod(method.getName(), method.getParameterTypes());
+            } catch (NoSuchMethodException e) {
+                continue;
+            }
+            if (hasConstraints(declared.getAnnotations()) || hasConstraints(declared.getAnnotatedReturnType())) {
+                return true;
+            }
+            for (Parameter parameter : declared.getParameters()) {
+                if (hasConstraints(parameter.getAnnotations()) || hasConstraints(parameter.getAnnotatedType())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static List<Class<?>> hierarchy(Class<?> type, List<Class<?>> types) {
+        if (type != null && !types.contains(type)) {
+            types.add(type);
+            hierarchy(type.getSuperclass(), types);
+            for (Class<?> implemented : type.getInterfaces()) {
+                hierarchy(implemented, types);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Container element constraints, such as <code>List&lt;@NotNull String&gt;</code>, are
+     * found on the type arguments.
+     */
+    private static boolean hasConstraints(AnnotatedType type) {
+        if (hasConstraints(type.getAnnotations())) {
+            return true;
+        }
+        if (type instanceof AnnotatedParameterizedType parameterized) {
+            for (AnnotatedType argument : parameterized.getAnnotatedActualTypeArguments()) {
+                if (hasConstraints(argument)) {
+                    return true;
+                }
+            }
+        } else if (type instanceof AnnotatedArrayType array) {
+            return hasConstraints(array.getAnnotatedGenericComponentType());
+        } else if (type instanceof AnnotatedWildcardType wildcard) {
+            for (AnnotatedType bound : wildcard.getAnnotatedUpperBounds()) {
+                if (hasConstraints(bound)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Repeated constraints are found inside their container annotation, such as <code>@Size.List</code>.
+     */
+    private static boolean hasConstraints(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            Class<? extends Annotation> type = annotation.annotationType();
+            if (type == Valid.class || type.isAnnotationPresent(Constraint.class)) {
+                return true;
+            }
+            try {
+                if (type.getMethod("value").invoke(annotation) instanceof Annotation[] repeated && hasConstraints(repeated)) {
+                    return true;
+                }
+            } catch (ReflectiveOperationException e) {
+                // Not a container annotation
+            }
+        }
+        return false;
+    }
+}
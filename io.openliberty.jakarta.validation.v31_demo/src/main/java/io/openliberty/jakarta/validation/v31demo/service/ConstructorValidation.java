@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.ConstructorDescriptor;
+
+/**
+ * Validates the arguments of records' canonical constructors with
+ * {@link ExecutableValidator#validateConstructorParameters}, so invalid data can be rejected
+ * before the record exists.
+ * <p>
+ * Constraints on record components apply to the canonical constructor's parameters as well, and
+ * <code>@Valid</code> parameters cascade into nested records, so the arguments are checked
+ * against the same constraints as the finished record, except those on accessors or the record
+ * class. The constructor of each record type, and whether its descriptor has any constrained or
+ * cascaded parameter, are looked up once; arguments of a constructor without either are accepted
+ * without calling the validator. Instances may be shared by threads.
+ */
+public final class ConstructorValidation {
+
+    private final ExecutableValidator executables;
+    private final Validator validator;
+
+    private final Map<Class<?>, Canonical> canonicals = new ConcurrentHashMap<>();
+
+    /**
+     * The canonical constructor of a record type.
+     *
+     * @param constructor The constructor
+     * @param constrained Whether any of its parameters is constrained or cascaded
+     */
+    private record Canonical(Constructor<?> constructor, boolean constrained) {
+    }
+
+    public ConstructorValidation(Validator validator) {
+        this.validator = validator;
+        this.executables = validator.forExecutables();
+    }
+
+    /**
+     * Validate the arguments of a record's canonical constructor
+     *
+     * @param type The record type
+     * @param args The component values, in declaration order
+     * @param groups The groups to validate
+     * @return The violations, with paths starting at the constructor
+     */
+    @SuppressWarnings("unchecked")
+    public <R extends Record> Set<ConstraintViolation<R>> validate(Class<R> type, Object[] args, Class<?>... groups) {
+        Canonical canonical = canonical(type);
+        if (!canonical.constrained()) {
+            return Set.of();
+        }
+        return executables.validateConstructorParameters((Constructor<R>) canonical.constructor(), args, groups);
+    }
+
+    /**
+     * Capture constructor parameter violations with the paths the same violations have when the
+     * finished record is validated, e.g. <code>email.value</code> rather than
+     * <code>Employee.email.value</code>
+     */
+    public static List<Violation> toViolations(Set<? extends ConstraintViolation<?>> violations) {
+        List<Violation> details = new ArrayList<>(violations.size());
+        for (ConstraintViolation<?> violation : violations) {
+            Violation detail = Violation.of(violation);
+            details.add(new Violation(propertyPath(violation.getPropertyPath()), detail.message(),
+                                      detail.constraintType(), detail.invalidValue(), detail.groups()));
+        }
+        return details;
+    }
+
+    /**
+     * @return The path without its leading constructor node
+     */
+    private static String propertyPath(Path path) {
+        Iterator<Path.Node> nodes = path.iterator();
+        if (!nodes.hasNext() || nodes.next().getKind() != ElementKind.CONSTRUCTOR) {
+            return path.toString();
+        }
+        String text = path.toString();
+        int dot = text.indexOf('.');
+        return dot < 0 ? "" : text.substring(dot + 1);
+    }
+
+    private Canonical canonical(Class<?> type) {
+        Canonical canonical = canonicals.get(type);
+        if (canonical == null) {
+            canonical = canonicals.computeIfAbsent(type, this::lookUp);
+        }
+        return canonical;
+    }
+
+    private Canonical lookUp(Class<?> type) {
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException(type.getName() + " is not a record");
+        }
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            parameterTypes[i] = components[i].getType();
+        }
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+            ConstructorDescriptor descriptor = validator.getConstraintsForClass(type).getConstraintsForConstructor(parameterTypes);
+            return new Canonical(constructor, descriptor != null && descriptor.hasConstrainedParameters());
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
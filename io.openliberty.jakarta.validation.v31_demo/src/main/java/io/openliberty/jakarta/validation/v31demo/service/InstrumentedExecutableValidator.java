@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+
+/**
+ * Executable validator that reports every validation call to {@link ValidationTelemetry}.
+ */
+final class InstrumentedExecutableValidator implements ExecutableValidator {
+
+    private final Validator delegate;
+    private final ValidationTelemetry telemetry;
+
+    InstrumentedExecutableValidator(Validator delegate, ValidationTelemetry telemetry) {
+        this.delegate = delegate;
+        this.telemetry = telemetry;
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues, Class<?>... groups) {
+        ValidationTelemetry.Observation observation = telemetry.start(InstrumentedValidator.typeOf(object), ValidationOperation.VALIDATE_PARAMETERS, groups);
+        int violations = -1;
+        try {
+            Set<ConstraintViolation<T>> result = delegate.forExecutables().validateParameters(object, method, parameterValues, groups);
+            violations = result.size();
+            telemetry.recordViolations(result);
+            return result;
+        } finally {
+            telemetry.end(observation, violations);
+        }
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Method method, Object returnValue, Class<?>... groups) {
+        ValidationTelemetry.Observation observation = telemetry.start(InstrumentedValidator.typeOf(object), ValidationOperation.VALIDATE_RETURN_VALUE, groups);
+        int violations = -1;
+        try {
+            Set<ConstraintViolation<T>> result = delegate.forExecutables().validateReturnValue(object, method, returnValue, groups);
+            violations = result.size();
+            telemetry.recordViolations(result);
+            return result;
+        } finally {
+            telemetry.end(observation, violations);
+        }
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateConstructorParameters(Constructor<? extends T> constructor, Object[] parameterValues,
+                                                                         Class<?>... groups) {
+        ValidationTelemetry.Observation observation = telemetry.start(constructor.getDeclaringClass(), ValidationOperation.VALIDATE_CONSTRUCTOR_PARAMETERS, groups);
+        int violations = -1;
+        try {
+            Set<ConstraintViolation<T>> result = delegate.forExecutables().validateConstructorParameters(constructor, parameterValues, groups);
+            violations = result.size();
+            telemetry.recordViolations(result);
+            return result;
+        } finally {
+            telemetry.end(observation, violations);
+        }
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor, T createdObject,
+                                                                          Class<?>... groups) {
+        ValidationTelemetry.Observation observation = telemetry.start(constructor.getDeclaringClass(), ValidationOperation.VALIDATE_CONSTRUCTOR_RETURN_VALUE, groups);
+        int violations = -1;
+        try {
+            Set<ConstraintViolation<T>> result = delegate.forExecutables().validateConstructorReturnValue(constructor, createdObject, groups);
+            violations = result.size();
+            telemetry.recordViolations(result);
+            return result;
+        } finally {
+            telemetry.end(observation, violations);
+        }
+    }
+}
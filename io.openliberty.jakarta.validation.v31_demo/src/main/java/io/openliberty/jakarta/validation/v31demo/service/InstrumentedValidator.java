@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+
+/**
+ * Validator that reports every validation call to {@link ValidationTelemetry} and delegates the
+ * validation itself to another validator.
+ */
+public final class InstrumentedValidator implements Validator {
+
+    private final Validator delegate;
+    private final ValidationTelemetry telemetry;
+    private final InstrumentedExecutableValidator executables;
+
+    public InstrumentedValidator(Validator delegate, ValidationTelemetry telemetry) {
+        this.delegate = delegate;
+        this.telemetry = telemetry;
+        this.executables = new InstrumentedExecutableValidator(delegate, telemetry);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        ValidationTelemetry.Observation observation = telemetry.start(typeOf(object), ValidationOperation.VALIDATE, groups);
+        int violations = -1;
+        try {
+            Set<ConstraintViolation<T>> result = delegate.validate(object, groups);
+            violations = result.size();
+            telemetry.recordViolations(result);
+            return result;
+        } finally {
+            telemetry.end(observation, violations);
+        }
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+        ValidationTelemetry.Observation observation = telemetry.start(typeOf(object), ValidationOperation.VALIDATE_PROPERTY, groups);
+        int violations = -1;
+        try {
+            Set<ConstraintViolation<T>> result = delegate.validateProperty(object, propertyName, groups);
+            violations = result.size();
+            telemetry.recordViolations(result);
+            return result;
+        } finally {
+            telemetry.end(observation, violations);
+        }
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+        ValidationTelemetry.Observation observation = telemetry.start(typeOf(beanType), ValidationOperation.VALIDATE_VALUE, groups);
+        int violations = -1;
+        try {
+            Set<ConstraintViolation<T>> result = delegate.validateValue(beanType, propertyName, value, groups);
+            violations = result.size();
+            telemetry.recordViolations(result);
+            return result;
+        } finally {
+            telemetry.end(observation, violations);
+        }
+    }
+
+    @Override
+    public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+        return delegate.getConstraintsForClass(clazz);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        return delegate.unwrap(type);
+    }
+
+    @Override
+    public ExecutableValidator forExecutables() {
+        return executables;
+    }
+
+    /**
+     * The type used to label a call, tolerating the null arguments the delegate will reject
+     */
+    static Class<?> typeOf(Object object) {
+        return object == null ? Object.class : object.getClass();
+    }
+
+    static Class<?> typeOf(Class<?> type) {
+        return type == null ? Object.class : type;
+    }
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.MethodDescriptor;
+
+/**
+ * Validates the parameters and return value of method calls, throwing
+ * {@link ConstraintViolationException} when they are invalid, as the method validation of
+ * {@link MethodValidationInterceptor} requires.
+ * <p>
+ * Whether a method has constrained or cascaded parameters, and a constrained or cascaded return
+ * value, is read from its {@link MethodDescriptor} on its first call and kept, so calls of
+ * methods without constraints go straight to the method without calling the validator. Instances
+ * may be shared by threads.
+ */
+public final class MethodValidation {
+
+    private final Validator validator;
+    private final ExecutableValidator executables;
+
+    private final Map<Method, Plan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * What to validate when a method is called.
+     *
+     * @param parameters Whether any parameter is constrained or cascaded
+     * @param returnValue Whether the return value is constrained or cascaded
+     */
+    private record Plan(boolean parameters, boolean returnValue) {
+    }
+
+    public MethodValidation(Validator validator) {
+        this.validator = validator;
+        this.executables = validator.forExecutables();
+    }
+
+    /**
+     * Validate the arguments of a call, make it, then validate its result
+     *
+     * @param target The object the method is called on
+     * @param method The method
+     * @param args The arguments
+     * @param call Makes the call
+     * @return The result of the call
+     * @throws ConstraintViolationException If the arguments or the result are invalid
+     */
+    public <T> Object invoke(T target, Method method, Object[] args, Callable<Object> call) throws Exception {
+        Plan plan = plan(method);
+        if (plan.parameters()) {
+            check(executables.validateParameters(target, method, args));
+        }
+        Object result = call.call();
+        if (plan.returnValue()) {
+            check(executables.validateReturnValue(target, method, result));
+        }
+        return result;
+    }
+
+    /**
+     * @return Whether calls of the method are validated
+     */
+    public boolean isConstrained(Method method) {
+        Plan plan = plan(method);
+        return plan.parameters() || plan.returnValue();
+    }
+
+    private static <T> void check(Set<ConstraintViolation<T>> violations) {
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
+    private Plan plan(Method method) {
+        Plan plan = plans.get(method);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(method, this::lookUp);
+        }
+        return plan;
+    }
+
+    /**
+     * Overriding methods may add return value constraints but not parameter constraints, so the
+     * descriptor of the class declaring the called method covers both.
+     */
+    private Plan lookUp(Method method) {
+        MethodDescriptor descriptor = validator.getConstraintsForClass(method.getDeclaringClass())
+                        .getConstraintsForMethod(method.getName(), method.getParameterTypes());
+        if (descriptor == null) {
+            return new Plan(false, false);
+        }
+        return new Plan(descriptor.hasConstrainedParameters(), descriptor.hasConstrainedReturnValue());
+    }
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
+/**
+ * Validates calls of the methods of {@link ValidateMethods} beans with the {@link Instrumented}
+ * validator, so they are counted in the validation metrics, and throws
+ * {@link ConstraintViolationException} for invalid arguments or results.
+ * <p>
+ * This replaces the container's method validation for the bean, which should turn it off with
+ * <code>@ValidateOnExecution(type = ExecutableType.NONE)</code> so calls are not validated twice.
+ * Every constrained method is validated, getters included, in the default group. The binding is
+ * only applied to constrained methods, see {@link ConstrainedTypeExtension}, and a method bound
+ * explicitly but without constraints is called without validation, see {@link MethodValidation}.
+ */
+@Interceptor
+@ValidateMethods
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 800)
+public class MethodValidationInterceptor {
+
+    private MethodValidation validation;
+
+    /**
+     * An interceptor's own <code>@PostConstruct</code> method is not called, so the validation is
+     * set up when the validator is injected
+     */
+    @Inject
+    void setValidator(@Instrumented Validator validator) {
+        validation = new MethodValidation(validator);
+    }
+
+    @AroundInvoke
+    public Object validate(InvocationContext context) throws Exception {
+        return validation.invoke(context.getTarget(), context.getMethod(), context.getParameters(), context::proceed);
+    }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.openliberty.jakarta.validation.v31demo.fastpath.FastValidation;
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedThreadFactory;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.validation.Validator;
+
+/**
+ * The application's {@link ParallelCascadeValidator}, running on a fork-join pool of managed
+ * threads so that list elements are validated with the application's context.
+ * <p>
+ * Lists with at least <code>validation.cascade.parallelThreshold</code> elements are split across
+ * <code>validation.cascade.parallelism</code> threads, all processors if 0.
+ * <p>
+ * The validator calls made for the parts of a record are not recorded. Instead the record is
+ * recorded as one <code>validate</code> call with all of its violations, as if the provider had
+ * validated it.
+ */
+@ApplicationScoped
+public class ParallelCascade {
+
+    @Resource
+    private ManagedThreadFactory threadFactory;
+
+    @Inject
+    @ConfigProperty(name = "validation.cascade.parallelThreshold", defaultValue = "1000")
+    private int threshold;
+
+    @Inject
+    @ConfigProperty(name = "validation.cascade.parallelism", defaultValue = "0")
+    private int parallelism;
+
+    @Inject
+    private ValidationTelemetry telemetry;
+
+    private ForkJoinPool pool;
+    private ParallelCascadeValidator cascade;
+
+    @PostConstruct
+    void init() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(threads, threadFactory, null, false);
+        cascade = new ParallelCascadeValidator(pool, threshold);
+    }
+
+    @PreDestroy
+    void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * @see ParallelCascadeValidator#validate(Validator, FastValidation, Record, Class...)
+     */
+    public List<Violation> validate(Validator validator, FastValidation fastPath, Record record, Class<?>... groups) {
+        ValidationTelemetry.Observation observation = telemetry.start(record.getClass(), ValidationOperation.VALIDATE, groups);
+        int violations = -1;
+        try {
+            List<Violation> result = cascade.validate(validator, fastPath, record, groups);
+            violations = result.size();
+            telemetry.recordViolations(record.getClass(), result);
+            return result;
+        } finally {
+            telemetry.end(observation, violations);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import io.openliberty.jakarta.validation.v31demo.fastpath.FastValidation;
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+/**
+ * Validates a record whose <code>@Valid</code> lists are large by splitting the elements of each
+ * such list across a fork-join pool, instead of letting the provider cascade into them on one
+ * thread.
+ * <p>
+ * The record's own property constraints are checked with <code>validateProperty</code>, each
+ * cascaded value is validated on its own, and the violations of a list element get the path the
+ * provider would give them, e.g. <code>employees[3].email.value</code>. Lists shorter than the
+ * threshold are validated sequentially, and the whole record is left to the provider when it has
+ * no such list or when splitting would change the result: class-level constraints, a redefined
+ * default group sequence, a requested group sequence, or cascading through other containers.
+ * <p>
+ * The validator calls made for the parts of the record are run as
+ * {@link ValidationTelemetry#callUnrecorded(java.util.function.Supplier) unrecorded}, on the
+ * calling thread and in the pool, so that callers can record the record as one call.
+ */
+public final class ParallelCascadeValidator {
+
+    /**
+     * Fewest list elements validated by one task
+     */
+    private static final int MIN_TASK_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * @param pool The pool list elements are validated on
+     * @param threshold The smallest list validated in parallel
+     */
+    public ParallelCascadeValidator(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Validate a record, splitting its large cascaded lists across the pool
+     *
+     * @param validator The validator
+     * @param fastPath The generated validators to validate list elements with where they exist, or null
+     * @param record The record to validate
+     * @param groups The groups to validate, Default if none
+     * @return The violations, those of list elements in element order
+     */
+    public List<Violation> validate(Validator validator, FastValidation fastPath, Record record, Class<?>... groups) {
+        return ValidationTelemetry.callUnrecorded(() -> validateParts(validator, fastPath, record, groups));
+    }
+
+    private List<Violation> validateParts(Validator validator, FastValidation fastPath, Record record, Class<?>[] groups) {
+        if (!hasLargeList(record) || !canSplit(validator, record.getClass(), groups)) {
+            return sequential(validator, fastPath, record, groups);
+        }
+
+        BeanDescriptor bean = validator.getConstraintsForClass(record.getClass());
+        List<Violation> violations = new ArrayList<>();
+        for (RecordComponent component : record.getClass().getRecordComponents()) {
+            String name = component.getName();
+            PropertyDescriptor property = bean.getConstraintsForProperty(name);
+            if (property == null) {
+                continue;
+            }
+            if (property.hasConstraints()) {
+                for (ConstraintViolation<Record> violation : validator.validateProperty(record, name, groups)) {
+                    violations.add(Violation.of(violation));
+                }
+            }
+            if (!isCascaded(property)) {
+                continue;
+            }
+            Object value = value(component, record);
+            if (value instanceof List<?> list) {
+                violations.addAll(list.size() < threshold
+                                ? new ElementTask(validator, fastPath, groups, name, list, 0, list.size(), list.size()).compute()
+                                : pool.invoke(new ElementTask(validator, fastPath, groups, name, list, 0, list.size(), taskSize(list.size()))));
+            } else if (value != null) {
+                addWithPrefix(violations, name, sequential(validator, fastPath, value, groups));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * @return Whether the property, or the elements of its container, are <code>@Valid</code>
+     */
+    private static boolean isCascaded(PropertyDescriptor property) {
+        if (property.isCascaded()) {
+            return true;
+        }
+        for (ContainerElementTypeDescriptor element : property.getConstrainedContainerElementTypes()) {
+            if (element.isCascaded()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasLargeList(Record record) {
+        for (RecordComponent component : record.getClass().getRecordComponents()) {
+            if (List.class.isAssignableFrom(component.getType()) && value(component, record) instanceof List<?> list
+                && list.size() >= threshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether validating the properties and cascaded values one by one gives the provider's result
+     */
+    private static boolean canSplit(Validator validator, Class<?> type, Class<?>[] groups) {
+        if (type.isAnnotationPresent(GroupSequence.class)) {
+            return false;
+        }
+        for (Class<?> group : groups) {
+            if (group.isAnnotationPresent(GroupSequence.class)) {
+                return false;
+            }
+        }
+        BeanDescriptor bean = validator.getConstraintsForClass(type);
+        if (!bean.getConstraintDescriptors().isEmpty()) {
+            return false;
+        }
+        for (PropertyDescriptor property : bean.getConstrainedProperties()) {
+            if (property.isCascaded() && !property.getGroupConversions().isEmpty()) {
+                return false;
+            }
+            for (ContainerElementTypeDescriptor element : property.getConstrainedContainerElementTypes()) {
+                if (!isSplittableListElement(element)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The provider reports <code>@Valid List&lt;E&gt;</code> as a cascaded list element, which is
+     * the case split across the pool. Elements of other containers, or with constraints, group
+     * conversions or nested containers of their own, are left to the provider.
+     */
+    private static boolean isSplittableListElement(ContainerElementTypeDescriptor element) {
+        return List.class.isAssignableFrom(element.getContainerClass())
+               && element.getTypeArgumentIndex() != null && element.getTypeArgumentIndex() == 0
+               && element.getConstraintDescriptors().isEmpty()
+               && element.getConstrainedContainerElementTypes().isEmpty()
+               && element.getGroupConversions().isEmpty();
+    }
+
+    private int taskSize(int size) {
+        return Math.max(MIN_TASK_SIZE, size / (4 * pool.getParallelism()));
+    }
+
+    private static Object value(RecordComponent component, Record record) {
+        try {
+            return component.getAccessor().invoke(record);
+        } catch (ReflectiveOperationException e) {
+            throw new ValidationException("Cannot read " + component.getName(), e);
+        }
+    }
+
+    private static List<Violation> sequential(Validator validator, FastValidation fastPath, Object object, Class<?>[] groups) {
+        if (fastPath != null && object instanceof Record record) {
+            List<Violation> violations = fastPath.validate(record, groups);
+            if (violations != null) {
+                return violations;
+            }
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(object, groups);
+        List<Violation> details = new ArrayList<>(violations.size());
+        for (ConstraintViolation<Object> violation : violations) {
+            details.add(Violation.of(violation));
+        }
+        return details;
+    }
+
+    private static void addWithPrefix(List<Violation> violations, String prefix, List<Violation> nested) {
+        for (Violation violation : nested) {
+            String path = violation.path().isEmpty() ? prefix : prefix + "." + violation.path();
+            violations.add(new Violation(path, violation.message(), violation.constraintType(), violation.invalidValue(),
+                                         violation.groups()));
+        }
+    }
+
+    /**
+     * Validates a range of list elements, splitting it in two while it is larger than the task size
+     */
+    private static final class ElementTask extends RecursiveTask<List<Violation>> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Validator validator;
+        private final transient FastValidation fastPath;
+        private final Class<?>[] groups;
+        private final String name;
+        private final transient List<?> list;
+        private final int from;
+        private final int to;
+        private final int taskSize;
+
+        ElementTask(Validator validator, FastValidation fastPath, Class<?>[] groups, String name, List<?> list,
+                    int from, int to, int taskSize) {
+            this.validator = validator;
+            this.fastPath = fastPath;
+            this.groups = groups;
+            this.name = name;
+            this.list = list;
+            this.from = from;
+            this.to = to;
+            this.taskSize = taskSize;
+        }
+
+        @Override
+        protected List<Violation> compute() {
+            if (to - from > taskSize) {
+                int middle = (from + to) >>> 1;
+                ElementTask first = new ElementTask(validator, fastPath, groups, name, list, from, middle, taskSize);
+                ElementTask second = new ElementTask(validator, fastPath, groups, name, list, middle, to, taskSize);
+                first.fork();
+                List<Violation> violations = second.compute();
+                List<Violation> firstViolations = first.join();
+                firstViolations.addAll(violations);
+                return firstViolations;
+            }
+            return ValidationTelemetry.callUnrecorded(() -> {
+                List<Violation> violations = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    Object element = list.get(i);
+                    if (element != null) {
+                        addWithPrefix(violations, name + "[" + i + "]", sequential(validator, fastPath, element, groups));
+                    }
+                }
+                return violations;
+            });
+        }
+    }
+}
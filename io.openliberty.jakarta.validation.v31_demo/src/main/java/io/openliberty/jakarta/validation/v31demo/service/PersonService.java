@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import io.openliberty.jakarta.validation.v31demo.model.Person;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.validation.executable.ExecutableType;
+import jakarta.validation.executable.ValidateOnExecution;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Service whose method constraints are checked on every call by
+ * {@link MethodValidationInterceptor}, instead of through
+ * {@link jakarta.validation.Validator#forExecutables()} by the caller. The container's method
+ * validation is turned off for it, so calls are not validated twice.
+ */
+@ApplicationScoped
+@ValidateMethods
+@ValidateOnExecution(type = ExecutableType.NONE)
+public class PersonService {
+
+    /**
+     * @param x The string to check, at most 10 characters like {@link Person#checkNameSize}'s
+     * @return The string with additional text
+     */
+    public String checkNameSize(@Size(max = 10) String x) {
+        return x + "String value";
+    }
+
+    /**
+     * @param person The person
+     * @return The person's name, of at least 6 characters like {@link Person#getName()}
+     */
+    @Size(min = 6)
+    public String nameOf(@NotNull Person person) {
+        return person.name();
+    }
+
+    /**
+     * Not constrained, so calls are never validated
+     *
+     * @param person The person to greet
+     * @return A greeting
+     */
+    public String greet(Person person) {
+        return "Hello, " + person.name();
+    }
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * The startup measurements of the application: how validation was warmed up, how long the
+ * provider bootstrap and each type's warm-up took, and the latency of the first request to each
+ * endpoint, so eager and lazy startup can be compared.
+ */
+@ApplicationScoped
+public class StartupReport {
+
+    /**
+     * Distinct endpoints recorded, so unexpected URLs cannot grow the report without bound.
+     */
+    private static final int MAX_FIRST_REQUESTS = 64;
+
+    private volatile String mode = "lazy";
+    private volatile long bootstrapNanos = -1;
+    private volatile long warmupNanos = -1;
+    private final List<TypeWarmup> types = new ArrayList<>();
+    private final ConcurrentMap<String, Long> firstRequests = new ConcurrentHashMap<>();
+
+    /**
+     * The warm-up of one constrained type.
+     *
+     * @param type The type name
+     * @param metadataNanos Time to build its bean and executable metadata
+     * @param validationNanos Time to run its validation code paths once
+     * @param error Why the warm-up failed, or null
+     */
+    public record TypeWarmup(String type, long metadataNanos, long validationNanos, String error) {
+    }
+
+    public String mode() {
+        return mode;
+    }
+
+    /**
+     * @return The time of the first call to the provider, or -1 if it was not measured at startup
+     */
+    public long bootstrapNanos() {
+        return bootstrapNanos;
+    }
+
+    /**
+     * @return The time of the whole startup warm-up, or -1 if it did not run
+     */
+    public long warmupNanos() {
+        return warmupNanos;
+    }
+
+    public synchronized List<TypeWarmup> types() {
+        return List.copyOf(types);
+    }
+
+    /**
+     * @return The first-request latency in nanoseconds of each endpoint, keyed by method and path
+     */
+    public Map<String, Long> firstRequests() {
+        return Map.copyOf(firstRequests);
+    }
+
+    void startupMode(String mode) {
+        this.mode = mode;
+    }
+
+    synchronized void warmedUp(long bootstrapNanos, long warmupNanos, List<TypeWarmup> types) {
+        this.bootstrapNanos = bootstrapNanos;
+        this.warmupNanos = warmupNanos;
+        this.types.clear();
+        this.types.addAll(types);
+    }
+
+    /**
+     * @return Whether the first request to the endpoint has been recorded
+     */
+    public boolean hasFirstRequest(String endpoint) {
+        return firstRequests.containsKey(endpoint);
+    }
+
+    /**
+     * Record the latency of a request, if it is the first one to the endpoint
+     */
+    public void firstRequest(String endpoint, long nanos) {
+        if (firstRequests.size() < MAX_FIRST_REQUESTS) {
+            firstRequests.putIfAbsent(endpoint, nanos);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongGauge;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorContext;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Hands out a validator per tenant, each configured with the tenant's message locale, time zone
+ * for temporal constraints such as <code>@Past</code>, and fail-fast setting.
+ * <p>
+ * The tenants are listed in <code>validation.tenants</code> and configured with
+ * <code>validation.tenant.&lt;id&gt;.locale</code>, <code>.timeZone</code> and <code>.failFast</code>.
+ * A tenant's validator is built through {@link ValidatorFactory#usingContext()} on its first use
+ * and then shared, since building one costs far more than a validation. Tenant validators record
+ * telemetry like the {@link Instrumented} validator but bypass the result cache, whose entries
+ * would carry another tenant's messages. The number of validators built is published as the
+ * <code>validation.tenant.validators</code> metric.
+ */
+@ApplicationScoped
+public class TenantValidators {
+
+    @Inject
+    private ValidatorFactory factory;
+
+    @Inject
+    @Instrumented
+    private Validator defaultValidator;
+
+    @Inject
+    private ValidationTelemetry telemetry;
+
+    @Inject
+    private Meter meter;
+
+    @Inject
+    private Config config;
+
+    @Inject
+    @ConfigProperty(name = "validation.tenants")
+    private Optional<List<String>> tenantIds;
+
+    private Map<String, Tenant> tenants;
+
+    private final Map<String, Validator> validators = new ConcurrentHashMap<>();
+
+    private ObservableLongGauge size;
+
+    /**
+     * The validation settings of a tenant, null where the factory's setting applies.
+     */
+    private record Tenant(String id, Locale locale, ZoneId timeZone, boolean failFast) {
+    }
+
+    @PostConstruct
+    void init() {
+        Map<String, Tenant> configured = new HashMap<>();
+        for (String id : tenantIds.orElse(List.of())) {
+            String prefix = "validation.tenant." + id + ".";
+            Locale locale = config.getOptionalValue(prefix + "locale", String.class).map(Locale::forLanguageTag).orElse(null);
+            ZoneId timeZone = config.getOptionalValue(prefix + "timeZone", String.class).map(ZoneId::of).orElse(null);
+            boolean failFast = config.getOptionalValue(prefix + "failFast", Boolean.class).orElse(false);
+            configured.put(id, new Tenant(id, locale, timeZone, failFast));
+        }
+        tenants = Collections.unmodifiableMap(configured);
+        size = meter.gaugeBuilder("validation.tenant.validators")
+                        .setDescription("Tenant validators built and cached")
+                        .setUnit("{validator}")
+                        .ofLongs()
+                        .buildWithCallback(measurement -> measurement.record(validators.size()));
+    }
+
+    @PreDestroy
+    void close() {
+        size.close();
+    }
+
+    /**
+     * @param tenantId The tenant, or null for none
+     * @return The tenant's validator, the {@link Instrumented} validator if there is no tenant, or
+     *         null if the tenant is not configured
+     */
+    public Validator forTenant(String tenantId) {
+        if (tenantId == null) {
+            return defaultValidator;
+        }
+        Tenant tenant = tenants.get(tenantId);
+        return tenant == null ? null : validators.computeIfAbsent(tenantId, id -> build(tenant));
+    }
+
+    private Validator build(Tenant tenant) {
+        ValidatorContext context = factory.usingContext();
+        if (tenant.locale() != null) {
+            context.messageInterpolator(new LocaleMessageInterpolator(factory.getMessageInterpolator(), tenant.locale()));
+        }
+        if (tenant.timeZone() != null) {
+            Clock clock = Clock.system(tenant.timeZone());
+            context.clockProvider(() -> clock);
+        }
+        if (tenant.failFast()) {
+            failFast(context, tenant.id());
+        }
+        return new InstrumentedValidator(context.getValidator(), telemetry);
+    }
+
+    /**
+     * Fail-fast is not part of the standard API; apply it through the provider's extension of
+     * {@link ValidatorContext}, as Hibernate Validator offers.
+     */
+    private static void failFast(ValidatorContext context, String tenantId) {
+        for (Class<?> type : context.getClass().getInterfaces()) {
+            try {
+                Method failFast = type.getMethod("failFast", boolean.class);
+                failFast.invoke(context, true);
+                return;
+            } catch (NoSuchMethodException e) {
+                // Try the next interface
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ValidationException("Cannot enable fail-fast validation for tenant " + tenantId, e);
+            }
+        }
+        throw new ValidationException("The validation provider does not support fail-fast validation, required by tenant " + tenantId);
+    }
+
+    /**
+     * Interpolates messages in a fixed locale.
+     */
+    private static final class LocaleMessageInterpolator implements MessageInterpolator {
+        private final MessageInterpolator delegate;
+        private final Locale locale;
+
+        LocaleMessageInterpolator(MessageInterpolator delegate, Locale locale) {
+            this.delegate = delegate;
+            this.locale = locale;
+        }
+
+        @Override
+        public String interpolate(String messageTemplate, Context context) {
+            return delegate.interpolate(messageTemplate, context, locale);
+        }
+
+        @Override
+        public String interpolate(String messageTemplate, Context context, Locale locale) {
+            return delegate.interpolate(messageTemplate, context, locale);
+        }
+    }
+}
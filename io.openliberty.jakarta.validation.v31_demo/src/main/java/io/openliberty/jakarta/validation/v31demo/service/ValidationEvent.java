@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event for one validation call made through an instrumented validator.
+ * <p>
+ * The event is disabled by default, including in the JDK's own profiles, so a recording records
+ * it only when its settings enable it, for example with <code>src/main/jfr/validation.jfc</code>.
+ * While it is disabled no event object is created. Once enabled, calls shorter than the
+ * threshold, 1 ms unless the settings change it, are not recorded.
+ */
+@Name(ValidationEvent.NAME)
+@Label("Validation")
+@Category({ "Jakarta Validation" })
+@Description("A Jakarta Validation call made by the application")
+@StackTrace(false)
+@Enabled(false)
+@Threshold("1 ms")
+final class ValidationEvent extends Event {
+
+    static final String NAME = "io.openliberty.jakarta.validation.v31demo.Validation";
+
+    /**
+     * Instance used only to ask whether the event type is enabled.
+     */
+    private static final ValidationEvent PROBE = new ValidationEvent();
+
+    @Label("Bean Type")
+    @Description("The root bean type, or the declaring type of a validated executable")
+    Class<?> beanType;
+
+    @Label("Operation")
+    @Description("The Jakarta Validation method called")
+    String operation;
+
+    @Label("Groups")
+    @Description("The groups requested, or Default")
+    String groups;
+
+    @Label("Group Sequence")
+    @Description("Whether a requested group, or the bean's redefined default group, is a group sequence")
+    boolean groupSequence;
+
+    @Label("Violations")
+    @Description("The number of violations reported, or -1 if the call failed")
+    int violations;
+
+    /**
+     * @return A started event, or null if no recording enables the event
+     */
+    static ValidationEvent begin(Class<?> beanType, ValidationOperation operation) {
+        if (!PROBE.isEnabled()) {
+            return null;
+        }
+        ValidationEvent event = new ValidationEvent();
+        event.beanType = beanType;
+        event.operation = operation.operationName();
+        event.begin();
+        return event;
+    }
+}
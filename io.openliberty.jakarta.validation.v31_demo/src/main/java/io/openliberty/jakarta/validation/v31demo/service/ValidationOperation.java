@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+/**
+ * The kinds of validation call the application makes, used to label telemetry.
+ */
+public enum ValidationOperation {
+    VALIDATE("validate"),
+    VALIDATE_PROPERTY("validateProperty"),
+    VALIDATE_VALUE("validateValue"),
+    VALIDATE_PARAMETERS("validateParameters"),
+    VALIDATE_RETURN_VALUE("validateReturnValue"),
+    VALIDATE_CONSTRUCTOR_PARAMETERS("validateConstructorParameters"),
+    VALIDATE_CONSTRUCTOR_RETURN_VALUE("validateConstructorReturnValue");
+
+    private final String operationName;
+
+    ValidationOperation(String operationName) {
+        this.operationName = operationName;
+    }
+
+    /**
+     * @return The name of the corresponding Jakarta Validation method
+     */
+    public String operationName() {
+        return operationName;
+    }
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongCounter;
+import io.opentelemetry.api.metrics.ObservableLongGauge;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
+
+/**
+ * Holds the results of validating immutable records, keyed by record value and groups, and
+ * publishes the cache statistics as metrics.
+ * <p>
+ * Only records whose components are themselves immutable values (primitives, strings, boxed
+ * primitives, enums and such records) are cached, since validating an equal instance of those
+ * always gives the same result. The cache is enabled with <code>validation.cache.enabled</code>
+ * and bounded by <code>validation.cache.maximumSize</code>.
+ */
+@ApplicationScoped
+public class ValidationResultCache {
+
+    static final AttributeKey<String> RESULT = AttributeKey.stringKey("validation.cache.result");
+
+    private static final Attributes HIT = Attributes.of(RESULT, "hit");
+    private static final Attributes MISS = Attributes.of(RESULT, "miss");
+
+    private static final ClassValue<Boolean> CACHEABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isRecord() && isImmutable(type, new HashSet<>());
+        }
+    };
+
+    @Inject
+    private Meter meter;
+
+    @Inject
+    @ConfigProperty(name = "validation.cache.enabled", defaultValue = "false")
+    private boolean enabled;
+
+    @Inject
+    @ConfigProperty(name = "validation.cache.maximumSize", defaultValue = "10000")
+    private int maximumSize;
+
+    private BoundedCache<Key, Set<? extends ConstraintViolation<?>>> cache;
+
+    private ObservableLongCounter requests;
+    private ObservableLongCounter evictions;
+    private ObservableLongGauge size;
+
+    /**
+     * A validated record and the groups it was validated for.
+     */
+    private record Key(Object value, List<Class<?>> groups) {
+    }
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        cache = new BoundedCache<>(maximumSize);
+        requests = meter.counterBuilder("validation.cache.requests")
+                        .setDescription("Validation result cache lookups, by hit or miss")
+                        .setUnit("{request}")
+                        .buildWithCallback(measurement -> {
+                            BoundedCache.Stats stats = cache.stats();
+                            measurement.record(stats.hits(), HIT);
+                            measurement.record(stats.misses(), MISS);
+                        });
+        evictions = meter.counterBuilder("validation.cache.evictions")
+                        .setDescription("Validation results evicted to keep the cache within its maximum size")
+                        .setUnit("{entry}")
+                        .buildWithCallback(measurement -> measurement.record(cache.stats().evictions()));
+        size = meter.gaugeBuilder("validation.cache.size")
+                        .setDescription("Validation results currently cached")
+                        .setUnit("{entry}")
+                        .ofLongs()
+                        .buildWithCallback(measurement -> measurement.record(cache.size()));
+    }
+
+    @PreDestroy
+    void close() {
+        if (cache != null) {
+            requests.close();
+            evictions.close();
+            size.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return Whether validation results for the object may be cached
+     */
+    public boolean isCacheable(Object object) {
+        return object != null && CACHEABLE.get(object.getClass());
+    }
+
+    /**
+     * Return the cached violations of a record, validating it on a miss
+     * @param object A record for which {@link #isCacheable(Object)} is true
+     * @param groups The groups to validate
+     * @param validation Validates the record when its result is not cached
+     * @return The violations, as an unmodifiable set
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Set<ConstraintViolation<T>> get(T object, Class<?>[] groups, Validation<T> validation) {
+        Key key = new Key(object, Arrays.asList(groups.clone()));
+        return (Set<ConstraintViolation<T>>) cache.computeIfAbsent(key, k -> Set.copyOf(validation.validate(object, groups)));
+    }
+
+    public BoundedCache.Stats stats() {
+        return enabled ? cache.stats() : new BoundedCache.Stats(0, 0, 0, 0);
+    }
+
+    /**
+     * Validates an object when its result is not cached.
+     */
+    @FunctionalInterface
+    public interface Validation<T> {
+        Set<ConstraintViolation<T>> validate(T object, Class<?>... groups);
+    }
+
+    /**
+     * @param inProgress Records already being checked, which a recursive record refers back to
+     */
+    private static boolean isImmutable(Class<?> type, Set<Class<?>> inProgress) {
+        if (!inProgress.add(type)) {
+            return true;
+        }
+        for (RecordComponent component : type.getRecordComponents()) {
+            Class<?> componentType = component.getType();
+            if (componentType.isPrimitive() || componentType.isEnum() || componentType == String.class
+                || componentType == Boolean.class || componentType == Character.class
+                || Number.class.isAssignableFrom(componentType) && componentType.getName().startsWith("java.lang.")) {
+                continue;
+            }
+            if (!componentType.isRecord() || !isImmutable(componentType, inProgress)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.groups.Default;
+
+/**
+ * Records latency histograms, violation counters and optional trace spans for validation calls,
+ * labelled by root bean type, operation and outcome, and passes the violations found on to
+ * {@link ViolationStatistics}. Each call is also a {@link ValidationEvent} when a Flight Recorder
+ * recording enables it. Calls made inside {@link #runUnrecorded(Runnable)} or {@link #callUnrecorded(Supplier)} are not
+ * recorded.
+ */
+@ApplicationScoped
+public class ValidationTelemetry {
+
+    static final AttributeKey<String> BEAN_TYPE = AttributeKey.stringKey("validation.bean.type");
+    static final AttributeKey<String> OPERATION = AttributeKey.stringKey("validation.operation");
+    static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("validation.outcome");
+    static final AttributeKey<String> GROUPS = AttributeKey.stringKey("validation.groups");
+    static final AttributeKey<Long> VIOLATIONS = AttributeKey.longKey("validation.violations");
+
+    @Inject
+    private Meter meter;
+
+    @Inject
+    private Tracer tracer;
+
+    @Inject
+    private ViolationStatistics statistics;
+
+    @Inject
+    @ConfigProperty(name = "validation.tracing.enabled", defaultValue = "false")
+    private boolean tracingEnabled;
+
+    /**
+     * Set on a thread while it makes calls that are not to be recorded.
+     */
+    private static final ThreadLocal<Boolean> UNRECORDED = new ThreadLocal<>();
+
+    private DoubleHistogram duration;
+    private LongCounter violations;
+
+    /**
+     * Attribute sets are built once per label combination rather than on every call.
+     */
+    private final ConcurrentMap<Labels, Attributes> attributes = new ConcurrentHashMap<>();
+
+    private record Labels(Class<?> beanType, ValidationOperation operation, String outcome) {
+    }
+
+    /**
+     * An in-progress validation call.
+     */
+    public static final class Observation {
+        final Class<?> beanType;
+        final ValidationOperation operation;
+        final Class<?>[] groups;
+        final long startNanos;
+        final Span span;
+        final ValidationEvent event;
+
+        Observation(Class<?> beanType, ValidationOperation operation, Class<?>[] groups, long startNanos, Span span,
+                    ValidationEvent event) {
+            this.beanType = beanType;
+            this.operation = operation;
+            this.groups = groups;
+            this.startNanos = startNanos;
+            this.span = span;
+            this.event = event;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        duration = meter.histogramBuilder("validation.duration")
+                        .setDescription("Duration of Jakarta Validation calls")
+                        .setUnit("s")
+                        .build();
+        violations = meter.counterBuilder("validation.violations")
+                        .setDescription("Constraint violations reported by Jakarta Validation calls")
+                        .setUnit("{violation}")
+                        .build();
+    }
+
+    /**
+     * Run validation calls, such as those of a benchmark, without recording them in the metrics,
+     * trace spans, violation statistics or Flight Recorder events
+     */
+    public static void runUnrecorded(Runnable calls) {
+        callUnrecorded(() -> {
+            calls.run();
+            return null;
+        });
+    }
+
+    /**
+     * Make validation calls without recording them, as {@link #runUnrecorded(Runnable)}
+     * @return The result of the calls
+     */
+    public static <T> T callUnrecorded(Supplier<T> calls) {
+        if (UNRECORDED.get() != null) {
+            return calls.get();
+        }
+        UNRECORDED.set(Boolean.TRUE);
+        try {
+            return calls.get();
+        } finally {
+            UNRECORDED.remove();
+        }
+    }
+
+    /**
+     * Start observing a validation call
+     * @param beanType The root bean type being validated
+     * @param operation The validation operation
+     * @param groups The groups requested by the caller
+     * @return The observation to pass to {@link #end(Observation, int)}, or null if the call is not recorded
+     */
+    public Observation start(Class<?> beanType, ValidationOperation operation, Class<?>[] groups) {
+        if (UNRECORDED.get() != null) {
+            return null;
+        }
+        Span span = null;
+        if (tracingEnabled) {
+            span = tracer.spanBuilder(operation.operationName() + " " + beanType.getSimpleName())
+                            .setSpanKind(SpanKind.INTERNAL)
+                            .setAttribute(BEAN_TYPE, beanType.getSimpleName())
+                            .setAttribute(OPERATION, operation.operationName())
+                            .setAttribute(GROUPS, groupNames(groups))
+                            .startSpan();
+        }
+        return new Observation(beanType, operation, groups, System.nanoTime(), span,
+                               ValidationEvent.begin(beanType, operation));
+    }
+
+    /**
+     * Finish observing a validation call
+     * @param observation The observation returned by {@link #start(Class, ValidationOperation, Class[])}
+     * @param violationCount The number of violations reported, or -1 if the call failed
+     */
+    public void end(Observation observation, int violationCount) {
+        if (observation == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - observation.startNanos;
+        ValidationEvent event = observation.event;
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.groups = groupNames(observation.groups);
+                event.groupSequence = usesGroupSequence(observation.beanType, observation.groups);
+                event.violations = violationCount;
+                event.commit();
+            }
+        }
+        String outcome = violationCount == 0 ? "valid" : violationCount < 0 ? "error" : "invalid";
+        Attributes labels = attributes.computeIfAbsent(new Labels(observation.beanType, observation.operation, outcome),
+                                                       ValidationTelemetry::toAttributes);
+        duration.record(elapsed / 1_000_000_000.0, labels);
+        if (violationCount > 0) {
+            violations.add(violationCount, labels);
+        }
+
+        if (observation.span != null) {
+            observation.span.setAttribute(OUTCOME, outcome);
+            observation.span.setAttribute(VIOLATIONS, violationCount);
+            observation.span.end();
+        }
+    }
+
+    /**
+     * Count the violations of a call by root bean class, property path and constraint
+     */
+    public void recordViolations(Set<? extends ConstraintViolation<?>> found) {
+        if (!found.isEmpty() && UNRECORDED.get() == null) {
+            statistics.record(found);
+        }
+    }
+
+    /**
+     * Count violations found other than by a validator call, by property path and constraint
+     */
+    public void recordViolations(Class<?> rootBeanClass, List<Violation> found) {
+        if (!found.isEmpty() && UNRECORDED.get() == null) {
+            statistics.record(rootBeanClass, found);
+        }
+    }
+
+    private static Attributes toAttributes(Labels labels) {
+        return Attributes.of(BEAN_TYPE, labels.beanType().getSimpleName(),
+                             OPERATION, labels.operation().operationName(),
+                             OUTCOME, labels.outcome());
+    }
+
+    /**
+     * @return Whether validating the groups follows a group sequence
+     */
+    static boolean usesGroupSequence(Class<?> beanType, Class<?>[] groups) {
+        if (groups == null || groups.length == 0) {
+            return beanType.isAnnotationPresent(GroupSequence.class);
+        }
+        for (Class<?> group : groups) {
+            if (group.isAnnotationPresent(GroupSequence.class)
+                || group == Default.class && beanType.isAnnotationPresent(GroupSequence.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String groupNames(Class<?>[] groups) {
+        if (groups == null || groups.length == 0) {
+            return "Default";
+        }
+        String[] names = new String[groups.length];
+        for (int i = 0; i < groups.length; i++) {
+            names[i] = groups[i].getSimpleName();
+        }
+        return String.join(",", names);
+    }
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+import jakarta.validation.Validator;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.MethodDescriptor;
+import jakarta.validation.metadata.MethodType;
+import jakarta.validation.metadata.ParameterDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+/**
+ * Warms up validation when the application starts, so the first requests do not pay for the
+ * provider bootstrap and metadata building.
+ * <p>
+ * With <code>validation.warmup.mode</code> set to <code>eager</code>, every constrained model type
+ * found by {@link ConstrainedTypeExtension} has its bean, property, method and constructor
+ * metadata built, and its property, bean and method parameter validation run once so the JIT
+ * compiles those paths. With <code>lazy</code> nothing happens until the first request. The
+ * timings are kept in the {@link StartupReport}.
+ */
+@ApplicationScoped
+public class ValidationWarmup {
+
+    @Inject
+    private Validator validator;
+
+    @Inject
+    private ConstrainedTypeExtension constrainedTypes;
+
+    @Inject
+    private StartupReport report;
+
+    @Inject
+    @ConfigProperty(name = "validation.warmup.mode", defaultValue = "eager")
+    private String mode;
+
+    void onStartup(@Observes Startup startup) {
+        report.startupMode(mode);
+        if (!"eager".equalsIgnoreCase(mode)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        validator.getConstraintsForClass(Object.class);
+        long bootstrap = System.nanoTime() - start;
+
+        List<StartupReport.TypeWarmup> types = new ArrayList<>();
+        for (Class<?> type : constrainedTypes.constrainedTypes()) {
+            types.add(warmUp(type));
+        }
+        report.warmedUp(bootstrap, System.nanoTime() - start, types);
+    }
+
+    private StartupReport.TypeWarmup warmUp(Class<?> type) {
+        long start = System.nanoTime();
+        long metadata = -1;
+        try {
+            BeanDescriptor bean = validator.getConstraintsForClass(type);
+            bean.getConstrainedConstructors();
+            List<MethodDescriptor> methods = new ArrayList<>(bean.getConstrainedMethods(MethodType.GETTER, MethodType.NON_GETTER));
+            metadata = System.nanoTime() - start;
+
+            for (PropertyDescriptor property : bean.getConstrainedProperties()) {
+                validator.validateValue(type, property.getPropertyName(), null);
+            }
+            Object instance = defaultInstance(type);
+            if (instance != null) {
+                validator.validate(instance);
+                for (MethodDescriptor method : methods) {
+                    List<ParameterDescriptor> parameters = method.getParameterDescriptors();
+                    if (!parameters.isEmpty()) {
+                        Class<?>[] parameterTypes = new Class<?>[parameters.size()];
+                        Object[] arguments = new Object[parameters.size()];
+                        for (int i = 0; i < parameterTypes.length; i++) {
+                            parameterTypes[i] = parameters.get(i).getElementClass();
+                            arguments[i] = defaultValue(parameterTypes[i]);
+                        }
+                        Method executable = type.getDeclaredMethod(method.getName(), parameterTypes);
+                        validator.forExecutables().validateParameters(instance, executable, arguments);
+                    }
+                }
+            }
+            return new StartupReport.TypeWarmup(type.getName(), metadata, System.nanoTime() - start - metadata, null);
+        } catch (RuntimeException | ReflectiveOperationException e) {
+            // A type that cannot be warmed up is left to the first request
+            return new StartupReport.TypeWarmup(type.getName(), metadata, -1, e.toString());
+        }
+    }
+
+    /**
+     * @return A record built from default component values, or null for other types
+     */
+    private static Object defaultInstance(Class<?> type) throws ReflectiveOperationException {
+        if (!type.isRecord()) {
+            return null;
+        }
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] types = new Class<?>[components.length];
+        Object[] values = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            types[i] = components[i].getType();
+            values[i] = defaultValue(types[i]);
+        }
+        Constructor<?> constructor = type.getDeclaredConstructor(types);
+        return constructor.newInstance(values);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == char.class) {
+            return '\0';
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0f;
+        } else if (type == double.class) {
+            return 0d;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import io.openliberty.jakarta.validation.v31demo.fastpath.FastValidation;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Produces the {@link Instrumented} validator used by the servlets, wrapping the validator
+ * provided by the container and, when enabled, the {@link ValidationResultCache}, and the
+ * {@link FastValidation} that interpolates the messages of the generated validators with the
+ * container's validator factory.
+ */
+@ApplicationScoped
+public class ValidatorProducer {
+
+    @Inject
+    private Validator validator;
+
+    @Inject
+    private ValidationTelemetry telemetry;
+
+    @Inject
+    private ValidationResultCache cache;
+
+    @Inject
+    private ValidatorFactory factory;
+
+    private FastValidation fastValidation;
+
+    @PostConstruct
+    void init() {
+        fastValidation = new FastValidation(factory);
+    }
+
+    @Produces
+    @Instrumented
+    public Validator instrumentedValidator() {
+        Validator target = cache.isEnabled() ? new CachingValidator(validator, cache) : validator;
+        return new InstrumentedValidator(target, telemetry);
+    }
+
+    @Produces
+    public FastValidation fastValidation() {
+        return fastValidation;
+    }
+}
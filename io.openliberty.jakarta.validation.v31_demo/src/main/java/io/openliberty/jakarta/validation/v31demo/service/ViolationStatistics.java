@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.service;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
+
+/**
+ * Counts constraint violations per root bean class, property path and constraint type, e.g.
+ * <code>Employee.email.value/@Email</code>, in total and over sliding windows of the last 1, 5
+ * and 15 minutes.
+ * <p>
+ * Counting takes no lock: each key has {@link LongAdder}s for its total and for each
+ * {@value #BUCKET_SECONDS} second bucket of a ring covering the longest window, and a bucket is
+ * reused by swapping its time stamp. An increment racing with the reuse of its bucket may be
+ * lost, so windowed counts are approximate. List and map indexes are dropped from paths, so
+ * <code>employees[3].email.value</code> counts as <code>employees[].email.value</code>. At most
+ * <code>validation.statistics.maxKeys</code> keys are tracked; violations of further keys are
+ * only counted as dropped.
+ */
+@ApplicationScoped
+public class ViolationStatistics {
+
+    static final int BUCKET_SECONDS = 10;
+
+    /**
+     * The sliding windows, in seconds
+     */
+    public static final int[] WINDOWS = { 60, 300, 900 };
+
+    private static final int BUCKETS = 900 / BUCKET_SECONDS;
+
+    @Inject
+    @ConfigProperty(name = "validation.statistics.maxKeys", defaultValue = "1000")
+    private int maxKeys;
+
+    private final Map<Key, Counter> counters = new ConcurrentHashMap<>();
+
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * A kind of violation.
+     *
+     * @param rootBeanClass The class of the validated object
+     * @param path The property path without list and map indexes
+     * @param constraintType The violated constraint
+     */
+    public record Key(Class<?> rootBeanClass, String path, Class<? extends Annotation> constraintType) {
+
+        /**
+         * @return The key as shown in reports, e.g. <code>Employee.email.value/@Email</code>
+         */
+        public String label() {
+            return rootBeanClass.getSimpleName() + (path.isEmpty() ? "" : "." + path) + "/@" + constraintType.getSimpleName();
+        }
+    }
+
+    /**
+     * The counts of one kind of violation.
+     *
+     * @param key The kind of violation
+     * @param total Violations since the application started
+     * @param windowCounts Violations within each of {@link #WINDOWS}
+     */
+    public record Entry(Key key, long total, long[] windowCounts) {
+
+        /**
+         * @return The average violations per second over the window at the index
+         */
+        public double rate(int window) {
+            return (double) windowCounts[window] / WINDOWS[window];
+        }
+    }
+
+    /**
+     * Count the violations reported by the provider
+     */
+    public void record(Set<? extends ConstraintViolation<?>> violations) {
+        long bucket = currentBucket();
+        for (ConstraintViolation<?> violation : violations) {
+            increment(new Key(violation.getRootBeanClass(), normalize(violation.getPropertyPath().toString()),
+                              violation.getConstraintDescriptor().getAnnotation().annotationType()),
+                      bucket);
+        }
+    }
+
+    /**
+     * Count violations found without the provider
+     *
+     * @param rootBeanClass The class of the validated object
+     */
+    public void record(Class<?> rootBeanClass, List<Violation> violations) {
+        long bucket = currentBucket();
+        for (Violation violation : violations) {
+            increment(new Key(rootBeanClass, normalize(violation.path()), violation.constraintType()), bucket);
+        }
+    }
+
+    private void increment(Key key, long bucket) {
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() >= maxKeys) {
+                dropped.increment();
+                return;
+            }
+            counter = counters.computeIfAbsent(key, k -> new Counter());
+        }
+        counter.increment(bucket);
+    }
+
+    /**
+     * @param limit The number of entries to return
+     * @param window The index in {@link #WINDOWS} to rank by, or -1 to rank by total
+     * @return The kinds of violation counted most often, most often first
+     */
+    public List<Entry> top(int limit, int window) {
+        long bucket = currentBucket();
+        Comparator<Entry> order = window < 0 ? Comparator.comparingLong(Entry::total)
+                        : Comparator.comparingLong(entry -> entry.windowCounts()[window]);
+        PriorityQueue<Entry> top = new PriorityQueue<>(order);
+        for (Map.Entry<Key, Counter> counter : counters.entrySet()) {
+            long[] windowCounts = new long[WINDOWS.length];
+            for (int i = 0; i < WINDOWS.length; i++) {
+                windowCounts[i] = counter.getValue().sum(bucket, WINDOWS[i] / BUCKET_SECONDS);
+            }
+            top.add(new Entry(counter.getKey(), counter.getValue().total.sum(), windowCounts));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Entry> entries = new ArrayList<>(top);
+        entries.sort(order.reversed());
+        return entries;
+    }
+
+    /**
+     * @return The number of kinds of violation tracked
+     */
+    public int size() {
+        return counters.size();
+    }
+
+    /**
+     * @return The number of violations not counted because too many keys were tracked
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    private static long currentBucket() {
+        return System.currentTimeMillis() / (BUCKET_SECONDS * 1000L);
+    }
+
+    /**
+     * @return The path with the contents of every <code>[...]</code> removed
+     */
+    static String normalize(String path) {
+        int open = path.indexOf('[');
+        if (open < 0) {
+            return path;
+        }
+        StringBuilder normalized = new StringBuilder(path.length());
+        int start = 0;
+        while (open >= 0) {
+            int close = path.indexOf(']', open);
+            if (close < 0) {
+                break;
+            }
+            normalized.append(path, start, open + 1);
+            start = close;
+            open = path.indexOf('[', close);
+        }
+        return normalized.append(path, start, path.length()).toString();
+    }
+
+    /**
+     * The total and bucketed counts of one key.
+     */
+    private static final class Counter {
+        final LongAdder total = new LongAdder();
+        final LongAdder[] buckets = new LongAdder[BUCKETS];
+        final AtomicLongArray stamps = new AtomicLongArray(BUCKETS);
+
+        Counter() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void increment(long bucket) {
+            total.increment();
+            int slot = (int) (bucket % BUCKETS);
+            long stamp = stamps.get(slot);
+            if (stamp != bucket && stamps.compareAndSet(slot, stamp, bucket)) {
+                buckets[slot].reset();
+            }
+            buckets[slot].increment();
+        }
+
+        /**
+         * @return The count of the current bucket and the <code>count - 1</code> before it
+         */
+        long sum(long current, int count) {
+            long sum = 0;
+            for (int i = 0; i < count; i++) {
+                long bucket = current - i;
+                int slot = (int) (bucket % BUCKETS);
+                if (stamps.get(slot) == bucket) {
+                    sum += buckets[slot].sum();
+                }
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.web;
+
+import java.io.IOException;
+
+import io.openliberty.jakarta.validation.v31demo.service.AdaptiveConcurrencyLimit;
+import io.openliberty.jakarta.validation.v31demo.service.AdmissionControl;
+import jakarta.inject.Inject;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filter that admits requests to the validation endpoints within their
+ * {@link AdaptiveConcurrencyLimit}, and rejects the rest with 503 and a <code>Retry-After</code>
+ * header before any of their validation work is done. An asynchronous request holds its place
+ * until it completes, and its latency is measured to completion.
+ * <p>
+ * Rejections of the validation endpoints, and of demo requests for JSON, by
+ * <code>format=json</code> or an <code>Accept</code> header preferring it, carry a JSON error
+ * like the endpoints' other errors. Other demo requests get the container's error page, as
+ * when a demo times out.
+ * <p>
+ * A <code>demo=all</code> benchmark runs for minutes, so it is admitted as the separate
+ * <code>benchmark</code> endpoint rather than holding a place among the demos and dragging
+ * their limit down.
+ */
+@WebFilter(urlPatterns = { "/validate/*", "/Validation31TestServlet" }, asyncSupported = true)
+public class AdmissionControlFilter extends HttpFilter {
+    private static final long serialVersionUID = 1L;
+
+    @Inject
+    private AdmissionControl admission;
+
+    @Override
+    protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        String endpoint = endpoint(request);
+        AdaptiveConcurrencyLimit limit = admission.forEndpoint(endpoint);
+        if (limit == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimit.Outcome outcome = limit.acquire();
+        if (outcome != AdaptiveConcurrencyLimit.Outcome.ADMITTED) {
+            response.setHeader("Retry-After", Long.toString(admission.retryAfterSeconds(endpoint)));
+            String message = outcome == AdaptiveConcurrencyLimit.Outcome.QUEUE_FULL
+                            ? "Too many requests to " + endpoint
+                            : "Timed out waiting for admission to " + endpoint;
+            if (jsonError(request, endpoint)) {
+                JsonValidationServlet.sendError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, message);
+            } else {
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, message);
+            }
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            async = request.isAsyncStarted();
+            if (async) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        limit.release(System.nanoTime() - start);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        // Released when the timeout response completes
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        // Released when the error response completes
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                        // The same request continues
+                    }
+                });
+            }
+        } finally {
+            if (!async) {
+                limit.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * @return The {@link AdmissionControl#ENDPOINTS endpoint} a request is for
+     */
+    private static String endpoint(HttpServletRequest request) {
+        return switch (request.getServletPath()) {
+            case "/validate/batch" -> "batch";
+            case "/Validation31TestServlet" -> Validation31TestServlet.BENCHMARK_DEMO.equals(request.getParameter("demo"))
+                            ? "benchmark" : "demo";
+            default -> "validate";
+        };
+    }
+
+    /**
+     * @return Whether a rejection of the request is sent as JSON rather than as an error page
+     */
+    private static boolean jsonError(HttpServletRequest request, String endpoint) {
+        if (endpoint.equals("validate") || endpoint.equals("batch") || "json".equals(request.getParameter("format"))) {
+            return true;
+        }
+        String accept = request.getHeader("Accept");
+        return accept != null && accept.contains("application/json") && !accept.contains("text/html");
+    }
+}
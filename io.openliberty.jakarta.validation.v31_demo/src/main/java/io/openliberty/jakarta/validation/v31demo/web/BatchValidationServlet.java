@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.web;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.openliberty.jakarta.validation.v31demo.fastpath.FastValidation;
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import io.openliberty.jakarta.validation.v31demo.result.ViolationJson;
+import io.openliberty.jakarta.validation.v31demo.service.TenantValidators;
+import io.openliberty.jakarta.validation.v31demo.service.ViolationStatistics;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorDefinition;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Validator;
+
+/**
+ * Servlet that validates a JSON array of model records in one request.
+ * <p>
+ * Each array element has the form
+ * <code>{"type": "Employee", "group": "ValidationOrder", "value": { ... }}</code>, where
+ * <code>group</code> is optional. Items are read from the request body as a stream and
+ * validated in chunks of <code>validation.batch.chunkSize</code> items, split across up to
+ * <code>validation.batch.parallelism</code> tasks on a virtual-thread managed executor.
+ * Results are written in input order as each chunk completes, so memory use depends on the
+ * chunk size rather than the batch size. Identical items within a chunk are validated once.
+ * If the body turns out to be malformed after results have been sent, the array ends with an
+ * element holding the error.
+ * <p>
+ * With <code>fastPath=true</code> each record is checked by the validator generated for its
+ * type at build time, if there is one, instead of the provider. An <code>X-Tenant-Id</code>
+ * header selects the tenant's validator, as for {@link JsonValidationServlet}.
+ */
+@WebServlet("/validate/batch")
+@ManagedExecutorDefinition(name = BatchValidationServlet.VALIDATION_EXECUTOR, maxAsync = 64, virtual = true)
+public class BatchValidationServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * JNDI name of the managed executor that validation work is submitted to.
+     */
+    static final String VALIDATION_EXECUTOR = "java:app/concurrent/validationExecutor";
+
+    @Inject
+    private TenantValidators tenants;
+
+    @Inject
+    private ViolationStatistics statistics;
+
+    @Inject
+    private FastValidation fastValidation;
+
+    @Resource(lookup = VALIDATION_EXECUTOR)
+    private ManagedExecutorService executor;
+
+    @Inject
+    @ConfigProperty(name = "validation.batch.parallelism", defaultValue = "8")
+    private int parallelism;
+
+    @Inject
+    @ConfigProperty(name = "validation.batch.chunkSize", defaultValue = "256")
+    private int chunkSize;
+
+    private transient Jsonb jsonb;
+
+    /**
+     * Outcome of validating one batch item.
+     */
+    private record ItemResult(String type, String error, List<Violation> violations) {
+    }
+
+    @Override
+    public void init() throws ServletException {
+        if (chunkSize <= 0) {
+            throw new ServletException("validation.batch.chunkSize must be positive: " + chunkSize);
+        }
+        if (parallelism <= 0) {
+            throw new ServletException("validation.batch.parallelism must be positive: " + parallelism);
+        }
+        jsonb = JsonbBuilder.create();
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            jsonb.close();
+        } catch (Exception e) {
+            // Nothing more to release
+        }
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        Validator validator = JsonValidationServlet.validator(tenants, request, response);
+        if (validator == null) {
+            return;
+        }
+        FastValidation fastPath = JsonValidationServlet.fastPath(fastValidation, request);
+        try (JsonParser parser = Json.createParser(request.getInputStream())) {
+            if (!parser.hasNext() || parser.next() != JsonParser.Event.START_ARRAY) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Request body must be a JSON array");
+                return;
+            }
+
+            response.setContentType("application/json;charset=UTF-8");
+            try (JsonGenerator out = Json.createGenerator(response.getOutputStream())) {
+                out.writeStartArray();
+
+                List<JsonValue> chunk = new ArrayList<>(chunkSize);
+                int baseIndex = 0;
+                try {
+                    while (parser.hasNext() && parser.next() != JsonParser.Event.END_ARRAY) {
+                        chunk.add(parser.getValue());
+                        if (chunk.size() == chunkSize) {
+                            validateChunk(validator, chunk, baseIndex, fastPath, out);
+                            baseIndex += chunk.size();
+                            chunk.clear();
+                        }
+                    }
+                } catch (JsonParsingException e) {
+                    if (!response.isCommitted()) {
+                        throw e;
+                    }
+                    // Earlier results have been sent, so end the array with an error for the rest
+                    validateChunk(validator, chunk, baseIndex, fastPath, out);
+                    out.writeStartObject();
+                    out.write("index", baseIndex + chunk.size());
+                    out.write("error", "Malformed JSON: " + e.getMessage());
+                    out.writeEnd();
+                    out.writeEnd();
+                    return;
+                }
+                validateChunk(validator, chunk, baseIndex, fastPath, out);
+
+                out.writeEnd();
+            }
+        } catch (JsonParsingException e) {
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Malformed JSON: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Validate one chunk of items in parallel and write the results in input order. Items that
+     * are identical to an earlier item of the chunk are validated once and share its result, and
+     * an item that fails with an exception gets an error result.
+     */
+    private void validateChunk(Validator validator, List<JsonValue> chunk, int baseIndex, FastValidation fastPath,
+                               JsonGenerator out) {
+        int size = chunk.size();
+        if (size == 0) {
+            return;
+        }
+
+        Map<JsonValue, Integer> firstIndex = new HashMap<>();
+        List<JsonValue> unique = new ArrayList<>(size);
+        int[] resultIndex = new int[size];
+        for (int i = 0; i < size; i++) {
+            JsonValue item = chunk.get(i);
+            Integer first = firstIndex.putIfAbsent(item, unique.size());
+            if (first == null) {
+                resultIndex[i] = unique.size();
+                unique.add(item);
+            } else {
+                resultIndex[i] = first;
+            }
+        }
+
+        int count = unique.size();
+        ItemResult[] results = new ItemResult[count];
+        int slices = Math.max(1, Math.min(parallelism, count));
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[slices];
+        for (int s = 0; s < slices; s++) {
+            int from = s * count / slices;
+            int to = (s + 1) * count / slices;
+            futures[s] = CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    try {
+                        results[i] = validateItem(validator, unique.get(i), fastPath);
+                    } catch (RuntimeException e) {
+                        results[i] = new ItemResult(null, "Cannot validate item: " + e, null);
+                    }
+                }
+            }, executor);
+        }
+        CompletableFuture.allOf(futures).join();
+
+        for (int i = 0; i < size; i++) {
+            writeResult(baseIndex + i, results[resultIndex[i]], out);
+        }
+        out.flush();
+    }
+
+    private ItemResult validateItem(Validator validator, JsonValue item, FastValidation fastPath) {
+        if (item.getValueType() != JsonValue.ValueType.OBJECT) {
+            return new ItemResult(null, "Item must be a JSON object", null);
+        }
+        JsonObject json = item.asJsonObject();
+
+        PayloadType type = PayloadType.forName(json.getString("type", null));
+        if (type == null) {
+            return new ItemResult(null, "Unknown type: " + json.get("type"), null);
+        }
+
+        Class<?>[] groups = {};
+        if (json.containsKey("group")) {
+            PayloadGroup group = PayloadGroup.forName(json.getString("group", null));
+            if (group == null) {
+                return new ItemResult(type.typeName(), "Unknown group: " + json.get("group"), null);
+            }
+            groups = new Class<?>[] { group.groupClass() };
+        }
+
+        JsonValue value = json.get("value");
+        if (value == null || value.getValueType() != JsonValue.ValueType.OBJECT) {
+            return new ItemResult(type.typeName(), "Missing object value", null);
+        }
+
+        Record record;
+        try {
+            record = jsonb.fromJson(value.toString(), type.recordClass());
+        } catch (JsonbException e) {
+            return new ItemResult(type.typeName(), "Cannot read value: " + e.getMessage(), null);
+        }
+        return new ItemResult(type.typeName(), null, JsonValidationServlet.validate(validator, statistics, fastPath, record, groups));
+    }
+
+    private void writeResult(int index, ItemResult result, JsonGenerator out) {
+        out.writeStartObject();
+        out.write("index", index);
+        if (result.type() != null) {
+            out.write("type", result.type());
+        }
+        if (result.error() != null) {
+            out.write("error", result.error());
+        } else {
+            out.write("valid", result.violations().isEmpty());
+            ViolationJson.writeArray(out, "violations", result.violations());
+        }
+        out.writeEnd();
+    }
+}
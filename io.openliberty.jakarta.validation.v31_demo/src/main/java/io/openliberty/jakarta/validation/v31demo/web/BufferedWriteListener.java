@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.web;
+
+import java.io.IOException;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+/**
+ * Writes a sequence of byte arrays to an asynchronous response using non-blocking I/O, and
+ * completes the request once everything has been written.
+ */
+class BufferedWriteListener implements WriteListener {
+
+    private final AsyncContext async;
+    private final ServletOutputStream out;
+    private final byte[][] buffers;
+    private int next;
+
+    BufferedWriteListener(AsyncContext async, ServletOutputStream out, byte[]... buffers) {
+        this.async = async;
+        this.out = out;
+        this.buffers = buffers;
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+        // Each write is only attempted while the container can accept it without blocking
+        while (out.isReady()) {
+            if (next == buffers.length) {
+                async.complete();
+                return;
+            }
+            out.write(buffers[next++]);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        async.complete();
+    }
+}
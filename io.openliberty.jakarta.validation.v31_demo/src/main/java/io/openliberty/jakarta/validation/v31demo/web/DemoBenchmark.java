@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.web;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import io.openliberty.jakarta.validation.v31demo.service.LatencyHistogram;
+
+/**
+ * Runs operations on a fixed number of threads for a fixed number of iterations each and measures
+ * their throughput and latency distribution.
+ * <p>
+ * Every thread first runs its warm-up iterations, then all threads start measuring together.
+ * Each thread records its latencies in its own {@link LatencyHistogram}, so measuring adds no
+ * contention; the histograms are added together when all threads have finished. Throughput is
+ * the number of measured calls divided by the time from the common start to the last thread
+ * finishing.
+ * <p>
+ * A thread factory asked for virtual threads may create platform threads instead, as Liberty's
+ * do on Java 17; the results then report the kind of thread that actually ran.
+ */
+final class DemoBenchmark {
+
+    /**
+     * What to run.
+     *
+     * @param warmupIterations Calls per thread before measuring
+     * @param iterations Measured calls per thread
+     * @param concurrencyLevels The numbers of threads to run each operation on
+     * @param threadKinds The kinds of thread to run each operation on
+     */
+    record Settings(int warmupIterations, int iterations, List<Integer> concurrencyLevels, List<ThreadKind> threadKinds) {
+    }
+
+    /**
+     * The kinds of thread operations can run on.
+     */
+    enum ThreadKind {
+        PLATFORM,
+        VIRTUAL;
+
+        /**
+         * <code>Thread.isVirtual()</code>, which is only there on Java 21 and later.
+         */
+        private static final Method IS_VIRTUAL = isVirtualMethod();
+
+        String label() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        static ThreadKind of(Thread thread) {
+            if (IS_VIRTUAL == null) {
+                return PLATFORM;
+            }
+            try {
+                return Boolean.TRUE.equals(IS_VIRTUAL.invoke(thread)) ? VIRTUAL : PLATFORM;
+            } catch (ReflectiveOperationException e) {
+                return PLATFORM;
+            }
+        }
+
+        private static Method isVirtualMethod() {
+            try {
+                return Thread.class.getMethod("isVirtual");
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * The measurements of one operation at one concurrency level on one kind of thread.
+     *
+     * @param operation The operation name
+     * @param requestedKind The kind of thread asked for
+     * @param threadKind The kind of thread that ran the operation
+     * @param concurrency The number of threads
+     * @param calls The number of measured calls
+     * @param failures The number of measured calls that failed or threw
+     * @param elapsedNanos The time taken by the measured calls
+     * @param latency The latency of each measured call
+     */
+    record Result(String operation, ThreadKind requestedKind, ThreadKind threadKind, int concurrency, long calls, long failures,
+                  long elapsedNanos, LatencyHistogram latency) {
+
+        /**
+         * @return The kind of thread that ran the operation, noting if it was not the one asked for
+         */
+        String threadLabel() {
+            return threadKind == requestedKind ? threadKind.label() : threadKind.label() + " (" + requestedKind.label() + " unavailable)";
+        }
+
+        double throughput() {
+            return elapsedNanos == 0 ? 0 : calls * 1e9 / elapsedNanos;
+        }
+    }
+
+    private DemoBenchmark() {
+    }
+
+    /**
+     * Run every operation at every concurrency level on every kind of thread
+     *
+     * @param operations The operations by name, run in iteration order, each returning whether it succeeded
+     * @param threads The thread factory for each kind of thread
+     * @param cancelled Set to stop the threads and the run early
+     * @return The results, in the order they ran
+     * @throws InterruptedException If interrupted while waiting for the threads
+     * @throws CancellationException If the run was cancelled
+     */
+    static List<Result> run(Map<String, BooleanSupplier> operations, Settings settings, Map<ThreadKind, ThreadFactory> threads,
+                            AtomicBoolean cancelled) throws InterruptedException {
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, BooleanSupplier> operation : operations.entrySet()) {
+            for (ThreadKind kind : settings.threadKinds()) {
+                for (int concurrency : settings.concurrencyLevels()) {
+                    results.add(measure(operation.getKey(), operation.getValue(), settings, kind, concurrency, threads.get(kind),
+                                        cancelled));
+                    if (cancelled.get()) {
+                        throw new CancellationException("Benchmark cancelled");
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private static Result measure(String name, BooleanSupplier operation, Settings settings, ThreadKind kind, int concurrency,
+                                  ThreadFactory factory, AtomicBoolean cancelled) throws InterruptedException {
+        CountDownLatch warmedUp = new CountDownLatch(concurrency);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        AtomicBoolean aborted = new AtomicBoolean();
+        LatencyHistogram[] histograms = new LatencyHistogram[concurrency];
+        long[] failures = new long[concurrency];
+        long[] finished = new long[concurrency];
+        List<Thread> started = new ArrayList<>(concurrency);
+        ThreadKind ran = kind;
+
+        try {
+            for (int t = 0; t < concurrency; t++) {
+                int slot = t;
+                histograms[slot] = new LatencyHistogram();
+                Thread thread = factory.newThread(() -> {
+                    try {
+                        try {
+                            for (int i = 0; i < settings.warmupIterations() && !cancelled.get(); i++) {
+                                call(operation);
+                            }
+                        } finally {
+                            warmedUp.countDown();
+                        }
+                        start.await();
+                        if (aborted.get()) {
+                            return;
+                        }
+                        LatencyHistogram histogram = histograms[slot];
+                        for (int i = 0; i < settings.iterations() && !cancelled.get(); i++) {
+                            long before = System.nanoTime();
+                            if (!call(operation)) {
+                                failures[slot]++;
+                            }
+                            histogram.record(System.nanoTime() - before);
+                        }
+                        finished[slot] = System.nanoTime();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+                if (thread == null) {
+                    throw new IllegalStateException("No " + kind.label() + " thread available");
+                }
+                ran = ThreadKind.of(thread);
+                started.add(thread);
+                thread.start();
+            }
+
+            warmedUp.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+
+            LatencyHistogram latency = new LatencyHistogram();
+            long end = begin;
+            long failed = 0;
+            for (int t = 0; t < concurrency; t++) {
+                latency.add(histograms[t]);
+                end = Math.max(end, finished[t]);
+                failed += failures[t];
+            }
+            return new Result(name, kind, ran, concurrency, latency.count(), failed, end - begin, latency);
+        } finally {
+            if (start.getCount() > 0) {
+                // Not every thread started, or waiting for them was interrupted
+                aborted.set(true);
+                start.countDown();
+            }
+            for (Thread thread : started) {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            }
+        }
+    }
+
+    /**
+     * @return Whether the operation succeeded without throwing
+     */
+    private static boolean call(BooleanSupplier operation) {
+        try {
+            return operation.getAsBoolean();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
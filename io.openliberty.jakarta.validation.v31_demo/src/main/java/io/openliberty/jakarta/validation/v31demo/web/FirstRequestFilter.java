@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.web;
+
+import java.io.IOException;
+
+import io.openliberty.jakarta.validation.v31demo.service.StartupReport;
+import jakarta.inject.Inject;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filter that records the latency of the first request to each endpoint in the
+ * {@link StartupReport}, until an asynchronous request completes where one is started.
+ * Demo pages are told apart by their <code>demo</code> parameter.
+ */
+@WebFilter(urlPatterns = "/*", asyncSupported = true)
+public class FirstRequestFilter extends HttpFilter {
+    private static final long serialVersionUID = 1L;
+
+    @Inject
+    private StartupReport report;
+
+    @Override
+    protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        String endpoint = endpoint(request);
+        if (report.hasFirstRequest(endpoint)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        chain.doFilter(request, response);
+        if (!request.isAsyncStarted()) {
+            report.firstRequest(endpoint, System.nanoTime() - start);
+            return;
+        }
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                report.firstRequest(endpoint, System.nanoTime() - start);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                // Completed after the timeout response
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                // Completed after the error response
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // The same request continues
+            }
+        });
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        StringBuilder endpoint = new StringBuilder(request.getMethod()).append(' ').append(request.getRequestURI());
+        // Only a GET query string is read, so request bodies are never parsed here
+        String demo = "GET".equals(request.getMethod()) ? request.getParameter("demo") : null;
+        if (demo != null) {
+            endpoint.append("?demo=").append(demo);
+        }
+        return endpoint.toString();
+    }
+}
@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.web;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.bind.Jsonb;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+/**
+ * Re-validates a record after some of its components change, reusing the violations of the
+ * unchanged components from the previous validation state.
+ * <p>
+ * Each changed component is checked with {@link Validator#validateProperty}, and a changed
+ * <code>@Valid</code> component is also validated as a whole, with its violation paths prefixed
+ * by the component name. Violations of unchanged components, including unchanged cascaded
+ * records, are kept as they were. Group sequences, redefined default group sequences and
+ * class-level constraints relate components to each other, and a group conversion on a changed
+ * component changes the groups its cascade is validated in, so for those the whole record is
+ * validated again, as it is when there is no previous state.
+ */
+final class IncrementalValidation {
+
+    /**
+     * The outcome of a partial update.
+     *
+     * @param values The component values after the update
+     * @param revalidated Names of the components that were validated again
+     * @param kept Violations of the previous state that still apply, as sent by the client
+     * @param violations Violations found by this validation
+     */
+    record Result(JsonObject values, List<String> revalidated, List<JsonValue> kept, List<Violation> violations) {
+
+        boolean valid() {
+            return kept.isEmpty() && violations.isEmpty();
+        }
+    }
+
+    private IncrementalValidation() {
+    }
+
+    /**
+     * @param values The component values of the previous state, or null if there is none
+     * @param previous The violations of the previous state, as returned by the endpoint, or null
+     * @param changes The changed component values
+     * @throws IllegalArgumentException If a change names an unknown component or the record cannot be read
+     */
+    static Result revalidate(Validator validator, Jsonb jsonb, PayloadType type, Class<?>[] groups,
+                             JsonObject values, JsonArray previous, JsonObject changes) {
+        for (String name : changes.keySet()) {
+            if (!type.components().containsKey(name)) {
+                throw new IllegalArgumentException("Unknown component of " + type.typeName() + ": " + name);
+            }
+        }
+        JsonObjectBuilder merged = values == null ? Json.createObjectBuilder() : Json.createObjectBuilder(values);
+        changes.forEach(merged::add);
+        JsonObject updated = merged.build();
+
+        Record record = jsonb.fromJson(updated.toString(), type.recordClass());
+        if (record == null) {
+            throw new IllegalArgumentException("Missing " + type.typeName());
+        }
+
+        BeanDescriptor bean = validator.getConstraintsForClass(type.recordClass());
+        if (values == null || previous == null || requiresFullValidation(bean, type.recordClass(), groups, changes.keySet())) {
+            List<Violation> violations = new ArrayList<>();
+            addAll(violations, null, validator.validate(record, groups));
+            return new Result(updated, List.copyOf(type.components().keySet()), List.of(), violations);
+        }
+
+        List<JsonValue> kept = new ArrayList<>();
+        for (JsonValue violation : previous) {
+            if (!isAffected(violation.asJsonObject().getString("path", ""), changes.keySet())) {
+                kept.add(violation);
+            }
+        }
+
+        List<Violation> violations = new ArrayList<>();
+        List<String> revalidated = new ArrayList<>();
+        for (String name : changes.keySet()) {
+            PropertyDescriptor property = bean.getConstraintsForProperty(name);
+            if (property == null) {
+                continue;
+            }
+            revalidated.add(name);
+            addAll(violations, null, validator.validateProperty(record, name, groups));
+            if (property.isCascaded()) {
+                Object nested = read(type.components().get(name), record);
+                if (nested instanceof List<?> elements) {
+                    for (int i = 0; i < elements.size(); i++) {
+                        if (elements.get(i) != null) {
+                            addAll(violations, name + "[" + i + "]", validator.validate(elements.get(i), groups));
+                        }
+                    }
+                } else if (nested != null) {
+                    addAll(violations, name, validator.validate(nested, groups));
+                }
+            }
+        }
+        return new Result(updated, revalidated, kept, violations);
+    }
+
+    private static boolean requiresFullValidation(BeanDescriptor bean, Class<?> recordClass, Class<?>[] groups,
+                                                  Set<String> changed) {
+        if (!bean.getConstraintDescriptors().isEmpty()) {
+            return true;
+        }
+        for (String name : changed) {
+            PropertyDescriptor property = bean.getConstraintsForProperty(name);
+            if (property != null && hasGroupConversions(property)) {
+                return true;
+            }
+        }
+        if (groups.length == 0) {
+            return recordClass.isAnnotationPresent(GroupSequence.class);
+        }
+        for (Class<?> group : groups) {
+            if (group.isAnnotationPresent(GroupSequence.class)
+                || group == Default.class && recordClass.isAnnotationPresent(GroupSequence.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether the property, or the elements of its container, convert groups when cascading
+     */
+    private static boolean hasGroupConversions(PropertyDescriptor property) {
+        if (!property.getGroupConversions().isEmpty()) {
+            return true;
+        }
+        for (ContainerElementTypeDescriptor element : property.getConstrainedContainerElementTypes()) {
+            if (!element.getGroupConversions().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether a violation path lies within one of the changed components
+     */
+    private static boolean isAffected(String path, Set<String> changed) {
+        for (String name : changed) {
+            if (path.startsWith(name)
+                && (path.length() == name.length() || path.charAt(name.length()) == '.' || path.charAt(name.length()) == '[')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addAll(List<Violation> out, String prefix, Set<? extends ConstraintViolation<?>> violations) {
+        for (ConstraintViolation<?> violation : violations) {
+            Violation detail = Violation.of(violation);
+            if (prefix != null) {
+                String path = detail.path().isEmpty() ? prefix : prefix + "." + detail.path();
+                detail = new Violation(path, detail.message(), detail.constraintType(), detail.invalidValue(), detail.groups());
+            }
+            out.add(detail);
+        }
+    }
+
+    private static Object read(RecordComponent component, Record record) {
+        try {
+            return component.getAccessor().invoke(record);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read " + component.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.web;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import io.openliberty.jakarta.validation.v31demo.fastpath.FastValidation;
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import io.openliberty.jakarta.validation.v31demo.result.ViolationJson;
+import io.openliberty.jakarta.validation.v31demo.service.ParallelCascade;
+import io.openliberty.jakarta.validation.v31demo.service.TenantValidators;
+import io.openliberty.jakarta.validation.v31demo.service.ViolationStatistics;
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Servlet that validates a single model record sent as JSON.
+ * <p>
+ * The record type is the last path segment, e.g. <code>POST /validate/Employee</code>, and an
+ * optional <code>group</code> query parameter selects the validation group, e.g.
+ * <code>POST /validate/SignupForm?group=ValidationOrder</code>. The response is
+ * <code>{"type": ..., "valid": ..., "violations": [...]}</code>.
+ * <p>
+ * <code>PATCH /validate/{type}</code> re-validates only the components that changed since a
+ * previous validation, see {@link IncrementalValidation}.
+ * <p>
+ * With <code>fastPath=true</code> the record is checked by the validator generated for its type
+ * at build time, if there is one, instead of the provider.
+ * <p>
+ * With <code>parallel=true</code> the elements of large <code>@Valid</code> lists, such as the
+ * employees of a <code>Department</code>, are validated in parallel, see {@link ParallelCascade}.
+ * <p>
+ * An <code>X-Tenant-Id</code> header selects the validator configured for that tenant, see
+ * {@link TenantValidators}; the generated validators are not used for tenants.
+ */
+@WebServlet("/validate/*")
+public class JsonValidationServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+
+    static final String JSON_CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    /**
+     * Request header naming the tenant whose validator to use
+     */
+    static final String TENANT_HEADER = "X-Tenant-Id";
+
+    @Inject
+    private TenantValidators tenants;
+
+    @Inject
+    private ParallelCascade parallelCascade;
+
+    @Inject
+    private ViolationStatistics statistics;
+
+    @Inject
+    private FastValidation fastValidation;
+
+    private transient Jsonb jsonb;
+
+    @Override
+    public void init() throws ServletException {
+        jsonb = JsonbBuilder.create();
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            jsonb.close();
+        } catch (Exception e) {
+            // Nothing more to release
+        }
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        PayloadType type = payloadType(request, response);
+        Class<?>[] groups = type == null ? null : groups(request, response);
+        Validator validator = groups == null ? null : validator(tenants, request, response);
+        if (validator == null) {
+            return;
+        }
+
+        Record record;
+        try {
+            record = jsonb.fromJson(request.getInputStream(), type.recordClass());
+        } catch (JsonbException e) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Cannot read " + type.typeName() + ": " + e.getMessage());
+            return;
+        }
+        if (record == null) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Missing " + type.typeName());
+            return;
+        }
+
+        List<Violation> violations = Boolean.parseBoolean(request.getParameter("parallel"))
+                        ? parallelCascade.validate(validator, fastPath(fastValidation, request), record, groups)
+                        : validate(validator, statistics, fastPath(fastValidation, request), record, groups);
+
+        response.setContentType(JSON_CONTENT_TYPE);
+        try (JsonGenerator out = Json.createGenerator(response.getOutputStream())) {
+            out.writeStartObject();
+            out.write("type", type.typeName());
+            out.write("valid", violations.isEmpty());
+            ViolationJson.writeArray(out, "violations", violations);
+            out.writeEnd();
+        }
+    }
+
+    /**
+     * Re-validate the components of a record that changed since a previous validation. The body is
+     * <code>{"values": {...}, "violations": [...], "changes": {...}}</code>, where
+     * <code>values</code> and <code>violations</code> are the state returned by the previous call
+     * and may be omitted on the first one.
+     */
+    @Override
+    protected void doPatch(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        PayloadType type = payloadType(request, response);
+        Class<?>[] groups = type == null ? null : groups(request, response);
+        Validator validator = groups == null ? null : validator(tenants, request, response);
+        if (validator == null) {
+            return;
+        }
+
+        IncrementalValidation.Result result;
+        try (JsonReader reader = Json.createReader(request.getInputStream())) {
+            JsonObject body = reader.readObject();
+            JsonObject changes = body.getJsonObject("changes");
+            if (changes == null) {
+                sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Missing changes");
+                return;
+            }
+            result = IncrementalValidation.revalidate(validator, jsonb, type, groups, body.getJsonObject("values"),
+                                                      body.getJsonArray("violations"), changes);
+        } catch (JsonException | JsonbException | ClassCastException | IllegalArgumentException e) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Cannot read update of " + type.typeName() + ": " + e.getMessage());
+            return;
+        }
+
+        response.setContentType(JSON_CONTENT_TYPE);
+        try (JsonGenerator out = Json.createGenerator(response.getOutputStream())) {
+            out.writeStartObject();
+            out.write("type", type.typeName());
+            out.write("valid", result.valid());
+            out.writeStartArray("revalidated");
+            result.revalidated().forEach(out::write);
+            out.writeEnd();
+            out.write("values", result.values());
+            out.writeStartArray("violations");
+            result.kept().forEach(out::write);
+            for (Violation violation : result.violations()) {
+                ViolationJson.write(out, violation);
+            }
+            out.writeEnd();
+            out.writeEnd();
+        }
+    }
+
+    /**
+     * @return The record type named by the path, or null after sending an error
+     */
+    private static PayloadType payloadType(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String pathInfo = request.getPathInfo();
+        PayloadType type = PayloadType.forName(pathInfo == null ? null : pathInfo.substring(1));
+        if (type == null) {
+            sendError(response, HttpServletResponse.SC_NOT_FOUND, "Unknown type: " + pathInfo);
+        }
+        return type;
+    }
+
+    /**
+     * @return The groups named by the <code>group</code> parameter, or null after sending an error
+     */
+    private static Class<?>[] groups(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String groupName = request.getParameter("group");
+        if (groupName == null) {
+            return new Class<?>[0];
+        }
+        PayloadGroup group = PayloadGroup.forName(groupName);
+        if (group == null) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Unknown group: " + groupName);
+            return null;
+        }
+        return new Class<?>[] { group.groupClass() };
+    }
+
+    /**
+     * @return The validator of the tenant named by the request, or null after sending an error
+     */
+    static Validator validator(TenantValidators tenants, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String tenantId = request.getHeader(TENANT_HEADER);
+        Validator validator = tenants.forTenant(tenantId);
+        if (validator == null) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Unknown tenant: " + tenantId);
+        }
+        return validator;
+    }
+
+    /**
+     * @return The generated validators if the request asks for them, which tenants do not use, or null
+     */
+    static FastValidation fastPath(FastValidation fastValidation, HttpServletRequest request) {
+        return Boolean.parseBoolean(request.getParameter("fastPath")) && request.getHeader(TENANT_HEADER) == null
+                        ? fastValidation
+                        : null;
+    }
+
+    /**
+     * Validate a record with its generated validator when requested and available, or with the
+     * provider. Violations found by a generated validator are counted in the statistics here, as
+     * the instrumented validator never sees them.
+     *
+     * @param fastPath The generated validators, or null to use the provider
+     */
+    static List<Violation> validate(Validator validator, ViolationStatistics statistics, FastValidation fastPath,
+                                    Record record, Class<?>[] groups) {
+        if (fastPath != null) {
+            List<Violation> violations = fastPath.validate(record, groups);
+            if (violations != null) {
+                if (!violations.isEmpty()) {
+                    statistics.record(record.getClass(), violations);
+                }
+                return violations;
+            }
+        }
+        Set<ConstraintViolation<Record>> violations = validator.validate(record, groups);
+        List<Violation> details = new ArrayList<>(violations.size());
+        for (ConstraintViolation<Record> violation : violations) {
+            details.add(Violation.of(violation));
+        }
+        return details;
+    }
+
+    /**
+     * Send an error as a JSON object
+     */
+    static void sendError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(JSON_CONTENT_TYPE);
+        try (JsonGenerator out = Json.createGenerator(response.getOutputStream())) {
+            out.writeStartObject();
+            out.write("error", message);
+            out.writeEnd();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.web;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.openliberty.jakarta.validation.v31demo.model.FirstGroup;
+import io.openliberty.jakarta.validation.v31demo.model.SecondGroup;
+import io.openliberty.jakarta.validation.v31demo.model.ValidationOrder;
+import jakarta.validation.groups.Default;
+
+/**
+ * Validation groups a client may request by name.
+ */
+enum PayloadGroup {
+    DEFAULT("Default", Default.class),
+    FIRST_GROUP("FirstGroup", FirstGroup.class),
+    SECOND_GROUP("SecondGroup", SecondGroup.class),
+    VALIDATION_ORDER("ValidationOrder", ValidationOrder.class);
+
+    private static final Map<String, PayloadGroup> BY_NAME = new HashMap<>();
+    static {
+        for (PayloadGroup group : values()) {
+            BY_NAME.put(group.groupName, group);
+        }
+    }
+
+    private final String groupName;
+    private final Class<?> groupClass;
+
+    PayloadGroup(String groupName, Class<?> groupClass) {
+        this.groupName = groupName;
+        this.groupClass = groupClass;
+    }
+
+    String groupName() {
+        return groupName;
+    }
+
+    Class<?> groupClass() {
+        return groupClass;
+    }
+
+    /**
+     * @param groupName The simple group name sent by the client
+     * @return The group, or null if the name is not a known validation group
+     */
+    static PayloadGroup forName(String groupName) {
+        return groupName == null ? null : BY_NAME.get(groupName);
+    }
+}
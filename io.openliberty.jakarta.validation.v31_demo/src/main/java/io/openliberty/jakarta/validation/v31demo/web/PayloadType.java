@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.web;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.openliberty.jakarta.validation.v31demo.model.Department;
+import io.openliberty.jakarta.validation.v31demo.model.EmailAddress;
+import io.openliberty.jakarta.validation.v31demo.model.Employee;
+import io.openliberty.jakarta.validation.v31demo.model.Person;
+import io.openliberty.jakarta.validation.v31demo.model.SignupForm;
+
+/**
+ * Model records that can be submitted as JSON payloads, keyed by the type name clients send.
+ */
+enum PayloadType {
+    PERSON("Person", Person.class),
+    EMPLOYEE("Employee", Employee.class),
+    EMAIL_ADDRESS("EmailAddress", EmailAddress.class),
+    SIGNUP_FORM("SignupForm", SignupForm.class),
+    DEPARTMENT("Department", Department.class);
+
+    private static final Map<String, PayloadType> BY_NAME = new HashMap<>();
+    static {
+        for (PayloadType type : values()) {
+            BY_NAME.put(type.typeName, type);
+        }
+    }
+
+    private final String typeName;
+    private final Class<? extends Record> recordClass;
+    private final Map<String, RecordComponent> components;
+
+    PayloadType(String typeName, Class<? extends Record> recordClass) {
+        this.typeName = typeName;
+        this.recordClass = recordClass;
+        Map<String, RecordComponent> components = new LinkedHashMap<>();
+        for (RecordComponent component : recordClass.getRecordComponents()) {
+            components.put(component.getName(), component);
+        }
+        this.components = Collections.unmodifiableMap(components);
+    }
+
+    String typeName() {
+        return typeName;
+    }
+
+    Class<? extends Record> recordClass() {
+        return recordClass;
+    }
+
+    /**
+     * @return The record components in declaration order, keyed by name
+     */
+    Map<String, RecordComponent> components() {
+        return components;
+    }
+
+    /**
+     * @param typeName The simple record name sent by the client
+     * @return The payload type, or null if the name is not a known model record
+     */
+    static PayloadType forName(String typeName) {
+        return typeName == null ? null : BY_NAME.get(typeName);
+    }
+}
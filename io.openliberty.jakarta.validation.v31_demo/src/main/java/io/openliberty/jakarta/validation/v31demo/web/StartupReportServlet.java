@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.web;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.openliberty.jakarta.validation.v31demo.service.StartupReport;
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Servlet that reports the validation warm-up mode, bootstrap and warm-up times, and the
+ * first-request latency of each endpoint, all in milliseconds.
+ */
+@WebServlet("/admin/startup")
+public class StartupReportServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+
+    @Inject
+    private StartupReport report;
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        response.setContentType(JsonValidationServlet.JSON_CONTENT_TYPE);
+        response.setHeader("Cache-Control", "no-store");
+        try (JsonGenerator out = Json.createGenerator(response.getOutputStream())) {
+            out.writeStartObject();
+            out.write("mode", report.mode());
+            writeMillis(out, "bootstrapMillis", report.bootstrapNanos());
+            writeMillis(out, "warmupMillis", report.warmupNanos());
+
+            out.writeStartArray("types");
+            for (StartupReport.TypeWarmup type : report.types()) {
+                out.writeStartObject();
+                out.write("type", type.type());
+                writeMillis(out, "metadataMillis", type.metadataNanos());
+                writeMillis(out, "validationMillis", type.validationNanos());
+                if (type.error() != null) {
+                    out.write("error", type.error());
+                }
+                out.writeEnd();
+            }
+            out.writeEnd();
+
+            out.writeStartObject("firstRequestMillis");
+            for (Map.Entry<String, Long> endpoint : new TreeMap<>(report.firstRequests()).entrySet()) {
+                out.write(endpoint.getKey(), endpoint.getValue() / 1_000_000.0);
+            }
+            out.writeEnd();
+            out.writeEnd();
+        }
+    }
+
+    /**
+     * Write a duration in milliseconds, or null if it was not measured
+     */
+    private static void writeMillis(JsonGenerator out, String name, long nanos) {
+        if (nanos < 0) {
+            out.writeNull(name);
+        } else {
+            out.write(name, nanos / 1_000_000.0);
+        }
+    }
+}
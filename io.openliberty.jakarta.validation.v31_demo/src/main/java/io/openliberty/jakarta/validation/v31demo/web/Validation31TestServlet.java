@@ -12,147 +12,580 @@
  *******************************************************************************/
 package io.openliberty.jakarta.validation.v31demo.web;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import io.openliberty.jakarta.validation.v31demo.model.EmailAddress;
 import io.openliberty.jakarta.validation.v31demo.model.Employee;
 import io.openliberty.jakarta.validation.v31demo.model.Person;
 import io.openliberty.jakarta.validation.v31demo.model.SignupForm;
 import io.openliberty.jakarta.validation.v31demo.model.ValidationOrder;
+import io.openliberty.jakarta.validation.v31demo.result.Violation;
+import io.openliberty.jakarta.validation.v31demo.result.ViolationHtml;
+import io.openliberty.jakarta.validation.v31demo.service.Instrumented;
+import io.openliberty.jakarta.validation.v31demo.service.LatencyHistogram;
+import io.openliberty.jakarta.validation.v31demo.service.PersonService;
+import io.openliberty.jakarta.validation.v31demo.service.ValidationTelemetry;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.concurrent.ManagedThreadFactory;
+import jakarta.enterprise.concurrent.ManagedThreadFactoryDefinition;
 import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 
 /**
  * Servlet that demonstrates Jakarta Validation 3.1 feature.
+ * <p>
+ * <code>demo=all</code> benchmarks every demo inside the server instead, through the injected
+ * validator, on platform and virtual managed threads; see {@link DemoBenchmark}. Its calls are
+ * not recorded in the validation metrics, violation statistics or Flight Recorder events. The
+ * <code>warmup</code> and <code>iterations</code> parameters set the calls per thread,
+ * <code>concurrency</code> the comma-separated thread counts, <code>threads</code>
+ * <code>platform</code>, <code>virtual</code> or both, and <code>format=json</code> returns JSON
+ * instead of HTML.
  */
-@WebServlet("/Validation31TestServlet")
+@WebServlet(urlPatterns = "/Validation31TestServlet", asyncSupported = true)
+@ManagedThreadFactoryDefinition(name = Validation31TestServlet.VIRTUAL_THREAD_FACTORY, virtual = true)
 public class Validation31TestServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
     
+    /**
+     * JNDI name of the managed thread factory that creates virtual threads for the benchmark.
+     */
+    static final String VIRTUAL_THREAD_FACTORY = "java:app/concurrent/benchmarkVirtualThreads";
+    
+    /**
+     * The <code>demo</code> value that benchmarks every demo.
+     */
+    static final String BENCHMARK_DEMO = "all";
+    
+    /**
+     * Upper bound of the calls a benchmark may make per operation, thread kind and concurrency level.
+     */
+    private static final long MAX_BENCHMARK_CALLS = 10_000_000;
+    
+    private static final int MAX_CONCURRENCY = 256;
+    
     @Inject
+    @Instrumented
     private Validator validator;
     
+    @Inject
+    private PersonService personService;
+    
+    @Resource(lookup = BatchValidationServlet.VALIDATION_EXECUTOR)
+    private ManagedExecutorService executor;
+    
+    @Resource
+    private ManagedThreadFactory platformThreads;
+    
+    @Resource(lookup = VIRTUAL_THREAD_FACTORY)
+    private ManagedThreadFactory virtualThreads;
+    
+    /**
+     * Milliseconds a demo may run before the request fails with 503.
+     */
+    @Inject
+    @ConfigProperty(name = "validation.async.timeout", defaultValue = "30000")
+    private long asyncTimeout;
+    
+    /**
+     * Milliseconds a <code>demo=all</code> benchmark may run before the request fails with 503.
+     */
+    @Inject
+    @ConfigProperty(name = "validation.benchmark.timeout", defaultValue = "600000")
+    private long benchmarkTimeout;
+    
+    private static final String CONTENT_TYPE = "text/html;charset=UTF-8";
+    
+    /**
+     * Document head, styles and page heading shared by every page this servlet produces.
+     */
+    private static final String PAGE_HEADER = "<!DOCTYPE html>\n" +
+                    "<html>\n" +
+                    "<head>\n" +
+                    "<title>Jakarta Validation 3.1 Demo Results</title>\n" +
+                    "<style>\n" +
+                    "body { font-family: Arial, sans-serif; margin: 20px; line-height: 1.6; }\n" +
+                    ".success { color: green; font-weight: bold; padding: 10px; background-color: #e8f5e9; border-radius: 5px; }\n" +
+                    ".failure { color: #d32f2f; font-weight: bold; padding: 10px; background-color: #ffebee; border-radius: 5px; }\n" +
+                    ".result { margin: 20px 0; padding: 20px; border: 1px solid #ddd; border-radius: 5px; box-shadow: 0 2px 4px rgba(0,0,0,0.1); }\n" +
+                    ".code { background-color: #f5f5f5; padding: 15px; border-left: 4px solid #2196f3; font-family: monospace; overflow-x: auto; }\n" +
+                    ".demo-description { background-color: #e3f2fd; padding: 15px; border-radius: 5px; margin-bottom: 20px; }\n" +
+                    ".constraint { font-family: monospace; background-color: #fff3e0; padding: 2px 5px; border-radius: 3px; }\n" +
+                    "h3 { color: #1976d2; border-bottom: 1px solid #bbdefb; padding-bottom: 5px; }\n" +
+                    "table { border-collapse: collapse; width: 100%; margin: 15px 0; }\n" +
+                    "th, td { border: 1px solid #ddd; padding: 8px; text-align: left; }\n" +
+                    "th { background-color: #f5f5f5; }\n" +
+                    "</style>\n" +
+                    "</head>\n" +
+                    "<body>\n" +
+                    "<h1>Jakarta Validation 3.1 Demo Results</h1>\n";
+    
+    private static final String PAGE_FOOTER = "<p><a href=\"/\">Back to Home</a></p>\n" +
+                    "</body>\n" +
+                    "</html>\n";
+    
+    private static final byte[] NO_DEMO_PAGE = (PAGE_HEADER +
+                    "<p>Please select a demo to run from the <a href=\"/\">home page</a>.</p>\n" +
+                    PAGE_FOOTER).getBytes(StandardCharsets.UTF_8);
+    
+    /**
+     * Demos keyed by the value of the <code>demo</code> request parameter, built once in {@link #init()}.
+     */
+    private Map<String, Demo> demos;
+    
+    /**
+     * A registered demo. The parts of its page that do not depend on the demo results are
+     * rendered and encoded once, so a request only produces the results section.
+     */
+    private record Demo(String name, String title, byte[] pagePrefix, byte[] pageSuffix, String etag,
+                        Consumer<TestResult> runner) {
+    }
+    
     @Override
-    protected void doGet(HttpServletRequest request, HttpServletResponse response) 
-            throws ServletException, IOException {
+    public void init() throws ServletException {
+        // The demo inputs are fixed, so a page only changes when the application is redeployed
+        String generation = Long.toHexString(System.currentTimeMillis());
+        
+        Map<String, Demo> registry = new LinkedHashMap<>();
+        register(registry, generation, "basicRecordTest", this::basicRecordTest);
+        register(registry, generation, "recordValidatePropertyAndValueTest", this::recordValidatePropertyAndValueTest);
+        register(registry, generation, "validateRecordParametersTest", this::validateRecordParametersTest);
+        register(registry, generation, "nestedRecordsTest", this::nestedRecordsTest);
+        register(registry, generation, "GroupSequenceRecordsTest", this::GroupSequenceRecordsTest);
+        demos = Collections.unmodifiableMap(registry);
+    }
+    
+    /**
+     * Register a demo, rendering the static parts of its page up front
+     */
+    private void register(Map<String, Demo> registry, String generation, String testName, Consumer<TestResult> runner) {
+        String title = formatTestName(testName);
+        
+        String prefix = PAGE_HEADER +
+                        "<h2>Running Demo: " + title + "</h2>\n" +
+                        "<div class=\"result\">\n" +
+                        "<div class=\"demo-description\">\n" +
+                        getTestDescription(testName) + "\n" +
+                        "</div>\n" +
+                        "<h3>Validation Constraints Being Demonstrated:</h3>\n" +
+                        "<div class=\"code\">\n" +
+                        "<pre>" + escapeHtml(getCodeSnippet(testName)) + "</pre>\n" +
+                        "</div>\n";
+        
+        String suffix = "<h3>Jakarta Validation API Used:</h3>\n" +
+                        "<div class=\"code\">\n" +
+                        "<pre>" + escapeHtml(getValidationApiUsed(testName)) + "</pre>\n" +
+                        "</div>\n" +
+                        "</div>\n" +
+                        PAGE_FOOTER;
+        
+        byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+        byte[] suffixBytes = suffix.getBytes(StandardCharsets.UTF_8);
         
-        response.setContentType("text/html");
-        PrintWriter out = response.getWriter();
+        CRC32 crc = new CRC32();
+        crc.update(prefixBytes);
+        crc.update(suffixBytes);
+        String etag = "\"" + Long.toHexString(crc.getValue()) + "-" + generation + "\"";
         
-        out.println("<!DOCTYPE html>");
-        out.println("<html>");
-        out.println("<head>");
-        out.println("<title>Jakarta Validation 3.1 Demo Results</title>");
-        out.println("<style>");
-        out.println("body { font-family: Arial, sans-serif; margin: 20px; line-height: 1.6; }");
-        out.println(".success { color: green; font-weight: bold; padding: 10px; background-color: #e8f5e9; border-radius: 5px; }");
-        out.println(".failure { color: #d32f2f; font-weight: bold; padding: 10px; background-color: #ffebee; border-radius: 5px; }");
-        out.println(".result { margin: 20px 0; padding: 20px; border: 1px solid #ddd; border-radius: 5px; box-shadow: 0 2px 4px rgba(0,0,0,0.1); }");
-        out.println(".code { background-color: #f5f5f5; padding: 15px; border-left: 4px solid #2196f3; font-family: monospace; overflow-x: auto; }");
-        out.println(".demo-description { background-color: #e3f2fd; padding: 15px; border-radius: 5px; margin-bottom: 20px; }");
-        out.println(".constraint { font-family: monospace; background-color: #fff3e0; padding: 2px 5px; border-radius: 3px; }");
-        out.println("h3 { color: #1976d2; border-bottom: 1px solid #bbdefb; padding-bottom: 5px; }");
-        out.println("table { border-collapse: collapse; width: 100%; margin: 15px 0; }");
-        out.println("th, td { border: 1px solid #ddd; padding: 8px; text-align: left; }");
-        out.println("th { background-color: #f5f5f5; }");
-        out.println("</style>");
-        out.println("</head>");
-        out.println("<body>");
-        out.println("<h1>Jakarta Validation 3.1 Demo Results</h1>");
+        registry.put(testName, new Demo(testName, title, prefixBytes, suffixBytes, etag, runner));
+    }
+    
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
         
         String testName = request.getParameter("demo");
         if (testName == null || testName.isEmpty()) {
-            out.println("<p>Please select a demo to run from the <a href=\"/\">home page</a>.</p>");
-        } else {
-            try {
-                Method testMethod = this.getClass().getMethod(testName, TestResult.class);
-                // Check if the method exists
-                if (testMethod != null) {
-                    out.println("<h2>Running Demo: " + formatTestName(testName) + "</h2>");
-                    out.println("<div class=\"result\">");
-                    
-                    // Add test description based on the test name
-                    out.println("<div class=\"demo-description\">");
-                    out.println(getTestDescription(testName));
-                    out.println("</div>");
-                    
-                    // Show relevant code snippet
-                    out.println("<h3>Validation Constraints Being Demonstrated:</h3>");
-                    out.println("<div class=\"code\">");
-                    out.println("<pre>" + escapeHtml(getCodeSnippet(testName)) + "</pre>");
-                    out.println("</div>");
-                    
-                    TestResult result = new TestResult();
-                    testMethod.invoke(this, result);
-                    
-                    if (result.isSuccess()) {
-                        out.println("<div class=\"success\">&#10004; Demo passed successfully!</div>");
-                    } else {
-                        out.println("<div class=\"failure\">&#10008; Demo failed: " + result.getMessage() + "</div>");
-                    }
-                    
-                    out.println("<h3>Demo Results:</h3>");
-                    
-                    // Format the details in a more structured way
-                    String details = result.getDetails();
-                    if (details != null && !details.isEmpty()) {
-                        // Convert the details to a table if it contains violations
-                        if (details.contains("Violation:")) {
-                            out.println("<table>");
-                            out.println("<tr><th>Type</th><th>Path</th><th>Message</th></tr>");
-                            
-                            String[] lines = details.split("\n");
-                            for (String line : lines) {
-                                if (line.contains("Violation:")) {
-                                    String type = line.substring(0, line.indexOf(":"));
-                                    String path = line.substring(line.indexOf(":") + 2, line.indexOf(" - "));
-                                    String message = line.substring(line.indexOf(" - ") + 3);
-                                    
-                                    out.println("<tr>");
-                                    out.println("<td>" + type + "</td>");
-                                    out.println("<td>" + path + "</td>");
-                                    out.println("<td>" + message + "</td>");
-                                    out.println("</tr>");
-                                } else {
-                                    out.println("<tr><td colspan=\"3\">" + line + "</td></tr>");
-                                }
-                            }
-                            
-                            out.println("</table>");
-                        } else {
-                            out.println("<pre>" + details + "</pre>");
+            response.setContentType(CONTENT_TYPE);
+            response.getOutputStream().write(NO_DEMO_PAGE);
+            return;
+        }
+        
+        if (testName.equals(BENCHMARK_DEMO)) {
+            runBenchmark(request, response);
+            return;
+        }
+        
+        Demo demo = demos.get(testName);
+        if (demo == null) {
+            response.setContentType(CONTENT_TYPE);
+            String page = PAGE_HEADER +
+                          "<p class=\"failure\">Invalid demo method: " + escapeHtml(testName) + "</p>\n" +
+                          PAGE_FOOTER;
+            response.getOutputStream().write(page.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        
+        response.setHeader("Cache-Control", "no-cache");
+        if (etagMatches(request.getHeader("If-None-Match"), demo.etag())) {
+            response.setHeader("ETag", demo.etag());
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        
+        response.setContentType(CONTENT_TYPE);
+        
+        // Run the demo on the managed executor so the request thread is released straight away
+        AsyncContext async = request.startAsync();
+        async.setTimeout(asyncTimeout);
+        AtomicBoolean responded = new AtomicBoolean();
+        async.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) throws IOException {
+                if (responded.compareAndSet(false, true)) {
+                    response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Demo timed out");
+                    async.complete();
+                }
+            }
+            
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+            
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+            
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+        
+        try {
+            executor.execute(() -> {
+                byte[] results = renderResults(demo).getBytes(StandardCharsets.UTF_8);
+                if (!responded.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    // Only the page itself carries the tag, not a timeout or rejection
+                    response.setHeader("ETag", demo.etag());
+                    ServletOutputStream out = response.getOutputStream();
+                    out.setWriteListener(new BufferedWriteListener(async, out, demo.pagePrefix(), results, demo.pageSuffix()));
+                } catch (IOException | RuntimeException e) {
+                    async.complete();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (responded.compareAndSet(false, true)) {
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Demo executor is unavailable");
+                async.complete();
+            }
+        }
+    }
+    
+    /**
+     * Benchmark every demo on the managed executor and respond with the results
+     */
+    private void runBenchmark(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        DemoBenchmark.Settings settings;
+        try {
+            settings = benchmarkSettings(request);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        boolean json = "json".equals(request.getParameter("format"));
+        
+        // The demos catch their own exceptions, so a failed demo shows in its result rather than by throwing
+        Map<String, BooleanSupplier> operations = new LinkedHashMap<>();
+        for (Demo demo : demos.values()) {
+            operations.put(demo.name(), () -> {
+                TestResult result = new TestResult();
+                ValidationTelemetry.runUnrecorded(() -> demo.runner().accept(result));
+                return result.isSuccess();
+            });
+        }
+        Map<DemoBenchmark.ThreadKind, ThreadFactory> threads = new EnumMap<>(DemoBenchmark.ThreadKind.class);
+        threads.put(DemoBenchmark.ThreadKind.PLATFORM, platformThreads);
+        threads.put(DemoBenchmark.ThreadKind.VIRTUAL, virtualThreads);
+        
+        response.setHeader("Cache-Control", "no-store");
+        response.setContentType(json ? JsonValidationServlet.JSON_CONTENT_TYPE : CONTENT_TYPE);
+        AsyncContext async = request.startAsync();
+        async.setTimeout(benchmarkTimeout);
+        AtomicBoolean responded = new AtomicBoolean();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        async.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) throws IOException {
+                cancelled.set(true);
+                if (responded.compareAndSet(false, true)) {
+                    response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Benchmark timed out");
+                    async.complete();
+                }
+            }
+            
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+            
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+            
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+        
+        try {
+            executor.execute(() -> {
+                byte[] page;
+                try {
+                    List<DemoBenchmark.Result> results = DemoBenchmark.run(operations, settings, threads, cancelled);
+                    page = json ? benchmarkJson(settings, results) : benchmarkHtml(settings, results);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    if (responded.compareAndSet(false, true)) {
+                        try {
+                            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Benchmark failed: " + e.getMessage());
+                        } catch (IOException ignored) {
+                            // The client has gone
                         }
+                        async.complete();
                     }
-                    
-                    out.println("<h3>Jakarta Validation API Used:</h3>");
-                    out.println("<div class=\"code\">");
-                    out.println("<pre>" + escapeHtml(getValidationApiUsed(testName)) + "</pre>");
-                    out.println("</div>");
-                    
-                    out.println("</div>");
-                } else {
-                    out.println("<p class=\"failure\">Invalid demo method: " + testName + "</p>");
+                    return;
                 }
-            } catch (Exception e) {
-                out.println("<p class=\"failure\">Error running demo: " + e.getMessage() + "</p>");
-                out.println("<pre>");
-                e.printStackTrace(out);
-                out.println("</pre>");
+                if (!responded.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    ServletOutputStream out = response.getOutputStream();
+                    out.setWriteListener(new BufferedWriteListener(async, out, page));
+                } catch (IOException | RuntimeException e) {
+                    async.complete();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (responded.compareAndSet(false, true)) {
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Demo executor is unavailable");
+                async.complete();
+            }
+        }
+    }
+    
+    /**
+     * @throws IllegalArgumentException If a parameter is not valid
+     */
+    private static DemoBenchmark.Settings benchmarkSettings(HttpServletRequest request) {
+        int warmup = intParameter(request, "warmup", 200, 0);
+        int iterations = intParameter(request, "iterations", 2000, 1);
+        
+        List<Integer> concurrency = new ArrayList<>();
+        String levels = request.getParameter("concurrency");
+        for (String level : (levels == null ? "1,8" : levels).split(",")) {
+            int threads = parseInt("concurrency", level.trim(), 1);
+            if (threads > MAX_CONCURRENCY) {
+                throw new IllegalArgumentException("concurrency must be at most " + MAX_CONCURRENCY);
             }
+            if ((long) threads * (warmup + iterations) > MAX_BENCHMARK_CALLS) {
+                throw new IllegalArgumentException("concurrency * (warmup + iterations) must be at most " + MAX_BENCHMARK_CALLS);
+            }
+            concurrency.add(threads);
         }
         
-        out.println("<p><a href=\"/\">Back to Home</a></p>");
-        out.println("</body>");
-        out.println("</html>");
+        List<DemoBenchmark.ThreadKind> kinds = new ArrayList<>();
+        String threads = request.getParameter("threads");
+        for (String kind : (threads == null ? "platform,virtual" : threads).split(",")) {
+            try {
+                kinds.add(DemoBenchmark.ThreadKind.valueOf(kind.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("threads must be platform, virtual or platform,virtual: " + kind);
+            }
+        }
+        return new DemoBenchmark.Settings(warmup, iterations, List.copyOf(concurrency), List.copyOf(kinds));
+    }
+    
+    private static int intParameter(HttpServletRequest request, String name, int defaultValue, int min) {
+        String value = request.getParameter(name);
+        return value == null ? defaultValue : parseInt(name, value, min);
+    }
+    
+    private static int parseInt(String name, String value, int min) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= min) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(name + " must be an integer of at least " + min + ": " + value);
+    }
+    
+    private static byte[] benchmarkHtml(DemoBenchmark.Settings settings, List<DemoBenchmark.Result> results) {
+        StringBuilder page = new StringBuilder(PAGE_HEADER);
+        page.append("<h2>Demo Benchmark</h2>\n")
+            .append("<div class=\"demo-description\">")
+            .append(settings.warmupIterations()).append(" warm-up and ")
+            .append(settings.iterations()).append(" measured calls per thread, through the injected validator.")
+            .append(" Latencies are in microseconds.</div>\n")
+            .append("<table>\n<tr><th>Demo</th><th>Threads</th><th>Concurrency</th><th>Calls</th><th>Failures</th>")
+            .append("<th>Calls/s</th><th>Mean</th><th>p50</th><th>p99</th><th>p99.9</th><th>Max</th></tr>\n");
+        for (DemoBenchmark.Result result : results) {
+            LatencyHistogram latency = result.latency();
+            page.append("<tr><td>").append(escapeHtml(result.operation()))
+                .append("</td><td>").append(result.threadLabel())
+                .append("</td><td>").append(result.concurrency())
+                .append("</td><td>").append(result.calls())
+                .append("</td><td>").append(result.failures())
+                .append("</td><td>").append(String.format(Locale.ROOT, "%,.0f", result.throughput()))
+                .append("</td><td>").append(micros(latency.mean()))
+                .append("</td><td>").append(micros(latency.percentile(50)))
+                .append("</td><td>").append(micros(latency.percentile(99)))
+                .append("</td><td>").append(micros(latency.percentile(99.9)))
+                .append("</td><td>").append(micros(latency.max()))
+                .append("</td></tr>\n");
+        }
+        page.append("</table>\n").append(PAGE_FOOTER);
+        return page.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private static byte[] benchmarkJson(DemoBenchmark.Settings settings, List<DemoBenchmark.Result> results) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator out = Json.createGenerator(bytes)) {
+            out.writeStartObject();
+            out.write("warmupIterations", settings.warmupIterations());
+            out.write("iterations", settings.iterations());
+            out.writeStartArray("results");
+            for (DemoBenchmark.Result result : results) {
+                LatencyHistogram latency = result.latency();
+                out.writeStartObject();
+                out.write("demo", result.operation());
+                out.write("threads", result.threadKind().label());
+                out.write("requestedThreads", result.requestedKind().label());
+                out.write("concurrency", result.concurrency());
+                out.write("calls", result.calls());
+                out.write("failures", result.failures());
+                out.write("callsPerSecond", result.throughput());
+                out.writeStartObject("latencyMicros");
+                out.write("mean", latency.mean() / 1000);
+                out.write("p50", latency.percentile(50) / 1000.0);
+                out.write("p99", latency.percentile(99) / 1000.0);
+                out.write("p999", latency.percentile(99.9) / 1000.0);
+                out.write("max", latency.max() / 1000.0);
+                out.writeEnd();
+                out.writeEnd();
+            }
+            out.writeEnd();
+            out.writeEnd();
+        }
+        return bytes.toByteArray();
+    }
+    
+    private static String micros(double nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1000);
+    }
+    
+    /**
+     * Run a demo and render the part of its page that depends on the results
+     */
+    private String renderResults(Demo demo) {
+        StringBuilder out = new StringBuilder(512);
+        try {
+            TestResult result = new TestResult();
+            demo.runner().accept(result);
+            
+            if (result.isSuccess()) {
+                out.append("<div class=\"success\">&#10004; Demo passed successfully!</div>\n");
+            } else {
+                out.append("<div class=\"failure\">&#10008; Demo failed: ").append(escapeHtml(result.getMessage())).append("</div>\n");
+            }
+            
+            out.append("<h3>Demo Results:</h3>\n");
+            
+            // Show violations in a table, with the other details as full-width rows
+            if (result.hasViolations()) {
+                out.append("<table>\n");
+                out.append(ViolationHtml.HEADER_ROW);
+                for (Detail detail : result.getDetails()) {
+                    if (detail.violation() != null) {
+                        ViolationHtml.appendRow(out, detail.label(), detail.violation());
+                    } else {
+                        out.append("<tr><td colspan=\"").append(ViolationHtml.COLUMNS).append("\">");
+                        ViolationHtml.escape(out, detail.text());
+                        out.append("</td></tr>\n");
+                    }
+                }
+                out.append("</table>\n");
+            } else if (!result.getDetails().isEmpty()) {
+                out.append("<pre>");
+                for (Detail detail : result.getDetails()) {
+                    ViolationHtml.escape(out, detail.text());
+                    out.append('\n');
+                }
+                out.append("</pre>\n");
+            }
+        } catch (Exception e) {
+            StringWriter trace = new StringWriter();
+            e.printStackTrace(new PrintWriter(trace));
+            out.append("<p class=\"failure\">Error running demo: ").append(escapeHtml(e.getMessage())).append("</p>\n");
+            out.append("<pre>").append(escapeHtml(trace.toString())).append("</pre>\n");
+        }
+        return out.toString();
+    }
+    
+    /**
+     * Check an If-None-Match header value against the current entity tag
+     */
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * One line of demo output: either a text note or a violation with a label describing its kind.
+     */
+    private record Detail(String text, String label, Violation violation) {
     }
     
     /**
@@ -161,7 +594,8 @@ public class Validation31TestServlet extends HttpServlet {
     private static class TestResult {
         private boolean success = true;
         private String message = "";
-        private StringBuilder details = new StringBuilder();
+        private final List<Detail> details = new ArrayList<>();
+        private boolean violations;
         
         public boolean isSuccess() {
             return success;
@@ -180,11 +614,22 @@ public class Validation31TestServlet extends HttpServlet {
         }
         
         public void addDetail(String detail) {
-            details.append(detail).append("\n");
+            details.add(new Detail(detail, null, null));
+        }
+        
+        public void addViolations(String label, Set<? extends ConstraintViolation<?>> constraintViolations) {
+            for (ConstraintViolation<?> violation : constraintViolations) {
+                details.add(new Detail(null, label, Violation.of(violation)));
+                violations = true;
+            }
         }
         
-        public String getDetails() {
-            return details.toString();
+        public List<Detail> getDetails() {
+            return details;
+        }
+        
+        public boolean hasViolations() {
+            return violations;
         }
     }
     
@@ -210,11 +655,7 @@ public class Validation31TestServlet extends HttpServlet {
                 result.setMessage("Validation did not produce expected results");
             }
             
-            if (invalidViolations.size() > 0) {
-                for (ConstraintViolation<Person> violation : invalidViolations) {
-                    result.addDetail("Violation: " + violation.getPropertyPath() + " - " + violation.getMessage());
-                }
-            }
+            result.addViolations("Violation", invalidViolations);
         } catch (Exception e) {
             result.setSuccess(false);
             result.setMessage("Exception occurred: " + e.getMessage());
@@ -242,17 +683,9 @@ public class Validation31TestServlet extends HttpServlet {
                 result.setMessage("Validation did not produce expected results");
             }
             
-            if (propertyViolations.size() > 0) {
-                for (ConstraintViolation<Person> violation : propertyViolations) {
-                    result.addDetail("Property Violation: " + violation.getPropertyPath() + " - " + violation.getMessage());
-                }
-            }
+            result.addViolations("Property Violation", propertyViolations);
             
-            if (valueViolations.size() > 0) {
-                for (ConstraintViolation<Person> violation : valueViolations) {
-                    result.addDetail("Value Violation: " + violation.getPropertyPath() + " - " + violation.getMessage());
-                }
-            }
+            result.addViolations("Value Violation", valueViolations);
         } catch (Exception e) {
             result.setSuccess(false);
             result.setMessage("Exception occurred: " + e.getMessage());
@@ -276,28 +709,33 @@ public class Validation31TestServlet extends HttpServlet {
             Set<ConstraintViolation<Person>> returnValueViolations = validator.forExecutables()
                             .validateReturnValue(object, method, returnValue);
             
-            boolean paramCheck = parameterViolations.size() == 1;
-            boolean returnCheck = returnValueViolations.size() == 1;
+            // The same constraints on a service, checked by its interceptor on each call
+            Set<ConstraintViolation<?>> interceptedParameterViolations = interceptedViolations(
+                            () -> personService.checkNameSize("Maxallowedvaluesis10"));
+            Set<ConstraintViolation<?>> interceptedReturnValueViolations = interceptedViolations(
+                            () -> personService.nameOf(object));
+            boolean unconstrainedCheck = interceptedViolations(() -> personService.greet(object)).isEmpty();
+            
+            boolean paramCheck = parameterViolations.size() == 1 && interceptedParameterViolations.size() == 1;
+            boolean returnCheck = returnValueViolations.size() == 1 && interceptedReturnValueViolations.size() == 1;
             
             result.addDetail("Parameter violations: " + parameterViolations.size());
             result.addDetail("Return value violations: " + returnValueViolations.size());
+            result.addDetail("Intercepted parameter violations: " + interceptedParameterViolations.size());
+            result.addDetail("Intercepted return value violations: " + interceptedReturnValueViolations.size());
             
-            if (!paramCheck || !returnCheck) {
+            if (!paramCheck || !returnCheck || !unconstrainedCheck) {
                 result.setSuccess(false);
                 result.setMessage("Validation did not produce expected results");
             }
             
-            if (parameterViolations.size() > 0) {
-                for (ConstraintViolation<Person> violation : parameterViolations) {
-                    result.addDetail("Parameter Violation: " + violation.getPropertyPath() + " - " + violation.getMessage());
-                }
-            }
+            result.addViolations("Parameter Violation", parameterViolations);
             
-            if (returnValueViolations.size() > 0) {
-                for (ConstraintViolation<Person> violation : returnValueViolations) {
-                    result.addDetail("Return Value Violation: " + violation.getPropertyPath() + " - " + violation.getMessage());
-                }
-            }
+            result.addViolations("Return Value Violation", returnValueViolations);
+            
+            result.addViolations("Intercepted Parameter Violation", interceptedParameterViolations);
+            
+            result.addViolations("Intercepted Return Value Violation", interceptedReturnValueViolations);
         } catch (Exception e) {
             result.setSuccess(false);
             result.setMessage("Exception occurred: " + e.getMessage());
@@ -305,6 +743,18 @@ public class Validation31TestServlet extends HttpServlet {
         }
     }
     
+    /**
+     * @return The violations of a call rejected by method validation, or none if it succeeded
+     */
+    private static Set<ConstraintViolation<?>> interceptedViolations(Runnable call) {
+        try {
+            call.run();
+            return Set.of();
+        } catch (ConstraintViolationException e) {
+            return e.getConstraintViolations();
+        }
+    }
+    
     /**
      * Demo that cascade validation works with records.
      */
@@ -322,11 +772,7 @@ public class Validation31TestServlet extends HttpServlet {
                 result.setMessage("Validation did not produce expected results");
             }
             
-            if (violations.size() > 0) {
-                for (ConstraintViolation<Employee> violation : violations) {
-                    result.addDetail("Violation: " + violation.getPropertyPath() + " - " + violation.getMessage());
-                }
-            }
+            result.addViolations("Violation", violations);
             
             // Test with invalid email to check cascade validation
             Employee emp2 = new Employee("validId", new EmailAddress("invalid"));
@@ -341,11 +787,7 @@ public class Validation31TestServlet extends HttpServlet {
                 result.setMessage("Cascade validation did not produce expected results");
             }
             
-            if (violations2.size() > 0) {
-                for (ConstraintViolation<Employee> violation : violations2) {
-                    result.addDetail("Cascade Violation: " + violation.getPropertyPath() + " - " + violation.getMessage());
-                }
-            }
+            result.addViolations("Cascade Violation", violations2);
         } catch (Exception e) {
             result.setSuccess(false);
             result.setMessage("Exception occurred: " + e.getMessage());
@@ -380,11 +822,7 @@ public class Validation31TestServlet extends HttpServlet {
                 result.setMessage("Group sequence did not produce expected results");
             }
             
-            if (constraintViolations.size() > 0) {
-                for (ConstraintViolation<SignupForm> violation : constraintViolations) {
-                    result.addDetail("Group Sequence Violation: " + violation.getPropertyPath() + " - " + violation.getMessage());
-                }
-            }
+            result.addViolations("Group Sequence Violation", constraintViolations);
         } catch (Exception e) {
             result.setSuccess(false);
             result.setMessage("Exception occurred: " + e.getMessage());
@@ -509,7 +947,16 @@ public class Validation31TestServlet extends HttpServlet {
                        "// Validate method return value\n" +
                        "Method getter = Person.class.getMethod(\"getName\");\n" +
                        "String returnValue = person.getName();\n" +
-                       "validator.forExecutables().validateReturnValue(person, getter, returnValue);";
+                       "validator.forExecutables().validateReturnValue(person, getter, returnValue);\n\n" +
+                       "// Or declare the constraints on a CDI bean and let its interceptor validate each call\n" +
+                       "@ApplicationScoped\n" +
+                       "@ValidateMethods\n" +
+                       "public class PersonService {\n" +
+                       "    public String checkNameSize(@Size(max = 10) String x) { ... }\n\n" +
+                       "    @Size(min = 6)\n" +
+                       "    public String nameOf(@NotNull Person person) { ... }\n" +
+                       "}\n\n" +
+                       "personService.checkNameSize(\"Maxallowedvaluesis10\"); // throws ConstraintViolationException";
                 
             case "nestedRecordsTest":
                 return "// Email record with validation constraints\n" +
@@ -582,12 +1029,10 @@ public class Validation31TestServlet extends HttpServlet {
     /**
      * Escape HTML special characters in code snippets
      */
-    private String escapeHtml(String html) {
+    private static String escapeHtml(String html) {
         if (html == null) {
             return "";
         }
-        // Debug the escaping issue
-        System.out.println("Escaping HTML: " + html);
-        return html.replace("<", "&lt;").replace(">", "&gt;");
+        return html.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
     }
 }
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.web;
+
+import java.io.IOException;
+
+import io.openliberty.jakarta.validation.v31demo.service.ViolationStatistics;
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Servlet that reports the constraints violated most often, with their total counts and their
+ * rates per second over the last 1, 5 and 15 minutes.
+ * <p>
+ * <code>top</code> sets the number of entries (10 by default) and <code>sort</code> ranks them by
+ * <code>total</code> (the default), <code>1m</code>, <code>5m</code> or <code>15m</code>.
+ */
+@WebServlet("/admin/violations")
+public class ViolationStatisticsServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] WINDOW_NAMES = { "1m", "5m", "15m" };
+
+    private static final int MAX_TOP = 1000;
+
+    @Inject
+    private ViolationStatistics statistics;
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        int top;
+        try {
+            top = request.getParameter("top") == null ? 10 : Integer.parseInt(request.getParameter("top"));
+        } catch (NumberFormatException e) {
+            top = -1;
+        }
+        if (top < 1 || top > MAX_TOP) {
+            JsonValidationServlet.sendError(response, HttpServletResponse.SC_BAD_REQUEST,
+                                            "top must be between 1 and " + MAX_TOP + ": " + request.getParameter("top"));
+            return;
+        }
+        String sort = request.getParameter("sort") == null ? "total" : request.getParameter("sort");
+        int window = windowIndex(sort);
+        if (window < -1) {
+            JsonValidationServlet.sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Unknown sort: " + sort);
+            return;
+        }
+
+        response.setContentType(JsonValidationServlet.JSON_CONTENT_TYPE);
+        response.setHeader("Cache-Control", "no-store");
+        try (JsonGenerator out = Json.createGenerator(response.getOutputStream())) {
+            out.writeStartObject();
+            out.write("sort", sort);
+            out.write("keys", statistics.size());
+            out.write("dropped", statistics.dropped());
+            out.writeStartArray("top");
+            for (ViolationStatistics.Entry entry : statistics.top(top, window)) {
+                ViolationStatistics.Key key = entry.key();
+                out.writeStartObject();
+                out.write("key", key.label());
+                out.write("bean", key.rootBeanClass().getName());
+                out.write("path", key.path());
+                out.write("constraint", key.constraintType().getName());
+                out.write("total", entry.total());
+                out.writeStartObject("count");
+                for (int i = 0; i < WINDOW_NAMES.length; i++) {
+                    out.write(WINDOW_NAMES[i], entry.windowCounts()[i]);
+                }
+                out.writeEnd();
+                out.writeStartObject("perSecond");
+                for (int i = 0; i < WINDOW_NAMES.length; i++) {
+                    out.write(WINDOW_NAMES[i], entry.rate(i));
+                }
+                out.writeEnd();
+                out.writeEnd();
+            }
+            out.writeEnd();
+            out.writeEnd();
+        }
+    }
+
+    /**
+     * @return The index of the named window, -1 for <code>total</code>, or -2 if the name is unknown
+     */
+    private static int windowIndex(String sort) {
+        if (sort.equals("total")) {
+            return -1;
+        }
+        for (int i = 0; i < WINDOW_NAMES.length; i++) {
+            if (WINDOW_NAMES[i].equals(sort)) {
+                return i;
+            }
+        }
+        return -2;
+    }
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.processor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The built-in constraints the processor can generate checks for.
+ */
+enum ConstraintKind {
+    NOT_NULL("jakarta.validation.constraints.NotNull"),
+    NOT_BLANK("jakarta.validation.constraints.NotBlank"),
+    SIZE("jakarta.validation.constraints.Size"),
+    EMAIL("jakarta.validation.constraints.Email"),
+    MIN("jakarta.validation.constraints.Min");
+
+    private static final Map<String, ConstraintKind> BY_ANNOTATION = new HashMap<>();
+    static {
+        for (ConstraintKind kind : values()) {
+            BY_ANNOTATION.put(kind.annotationType, kind);
+        }
+    }
+
+    private final String annotationType;
+
+    ConstraintKind(String annotationType) {
+        this.annotationType = annotationType;
+    }
+
+    String annotationType() {
+        return annotationType;
+    }
+
+    /**
+     * @return The message template key used as the annotation's default <code>message</code>
+     */
+    String defaultTemplate() {
+        return "{" + annotationType + ".message}";
+    }
+
+    /**
+     * @param annotationType The qualified annotation type name
+     * @return The supported constraint, or null
+     */
+    static ConstraintKind forAnnotation(String annotationType) {
+        return BY_ANNOTATION.get(annotationType);
+    }
+}
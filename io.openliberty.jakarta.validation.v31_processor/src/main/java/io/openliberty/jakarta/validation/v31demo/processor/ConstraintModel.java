@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.processor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A built-in constraint declared on a record property, with its attributes resolved at compile time.
+ *
+ * @param kind The supported constraint
+ * @param groups Qualified names of the constraint's groups, never empty
+ * @param attributes Numeric attributes such as <code>min</code>, <code>max</code> and <code>value</code>
+ */
+record ConstraintModel(ConstraintKind kind, List<String> groups, Map<String, Long> attributes) {
+
+    long attribute(String name) {
+        return attributes.get(name);
+    }
+}
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.processor;
+
+import java.util.List;
+
+/**
+ * A constrained or cascaded property of a record: either a record component, read through its
+ * accessor, or a JavaBeans getter declared on the record.
+ *
+ * @param name The property name used in violation paths
+ * @param accessor The expression that reads the value from the record, e.g. <code>name()</code>
+ * @param type The source form of the value type
+ * @param category How constraints read the value
+ * @param constraints The constraints to check
+ * @param cascadedRecord Qualified name of the record validated through <code>@Valid</code>, or null
+ */
+record PropertyModel(String name, String accessor, String type, ValueCategory category,
+                     List<ConstraintModel> constraints, String cascadedRecord) {
+
+    /**
+     * The shapes of value the generated checks know how to read.
+     */
+    enum ValueCategory {
+        CHAR_SEQUENCE,
+        COLLECTION,
+        MAP,
+        INTEGRAL_PRIMITIVE,
+        INTEGRAL_BOXED,
+        OTHER_PRIMITIVE,
+        OTHER
+    }
+}
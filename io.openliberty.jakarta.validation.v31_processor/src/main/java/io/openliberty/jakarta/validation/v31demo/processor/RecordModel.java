@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.processor;
+
+import java.util.List;
+
+/**
+ * The validation metadata of one record, or the reason no validator can be generated for it.
+ *
+ * @param qualifiedName The record's qualified name
+ * @param simpleName The record's simple name
+ * @param properties The constrained and cascaded properties
+ * @param unsupported Why the record needs the provider, or null if a validator can be generated
+ */
+record RecordModel(String qualifiedName, String simpleName, List<PropertyModel> properties, String unsupported) {
+
+    String validatorName() {
+        return simpleName + "GeneratedValidator";
+    }
+
+    RecordModel withUnsupported(String reason) {
+        return new RecordModel(qualifiedName, simpleName, properties, reason);
+    }
+}
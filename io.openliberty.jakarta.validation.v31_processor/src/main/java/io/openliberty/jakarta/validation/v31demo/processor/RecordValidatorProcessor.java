@@ -0,0 +1,472 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates reflection-free validators for the records of one package.
+ * <p>
+ * For every record in the package named by the <code>v31demo.validators.package</code> option,
+ * the processor reads the built-in constraints on its components and JavaBeans getters, their
+ * groups and <code>@Valid</code> cascades, and generates a <code>&lt;Record&gt;GeneratedValidator</code>
+ * that checks the values directly. It also generates a <code>GeneratedRecordValidators</code>
+ * registry holding those validators and the group sequences declared in the package.
+ * <p>
+ * Records using anything the generated code cannot reproduce exactly, such as custom or
+ * class-level constraints, container element constraints or message expressions, are reported
+ * with a note and left to the provider.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(RecordValidatorProcessor.PACKAGE_OPTION)
+public class RecordValidatorProcessor extends AbstractProcessor {
+
+    static final String PACKAGE_OPTION = "v31demo.validators.package";
+
+    static final String REGISTRY_NAME = "GeneratedRecordValidators";
+
+    private static final String CONSTRAINT = "jakarta.validation.Constraint";
+    private static final String VALID = "jakarta.validation.Valid";
+    private static final String GROUP_SEQUENCE = "jakarta.validation.GroupSequence";
+    private static final String CONVERT_GROUP = "jakarta.validation.groups.ConvertGroup";
+    private static final String DEFAULT_GROUP = "jakarta.validation.groups.Default";
+
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        String packageName = processingEnv.getOptions().get(PACKAGE_OPTION);
+        if (generated || packageName == null || roundEnv.processingOver()) {
+            return false;
+        }
+
+        // Look the package up rather than scanning the round's root elements, so the records are
+        // found whichever round they arrive in and when only some of them are being recompiled
+        PackageElement modelPackage = processingEnv.getElementUtils().getPackageElement(packageName);
+        if (modelPackage == null) {
+            return false;
+        }
+        List<TypeElement> records = new ArrayList<>();
+        List<TypeElement> sequences = new ArrayList<>();
+        for (Element element : modelPackage.getEnclosedElements()) {
+            if (!(element instanceof TypeElement type)) {
+                continue;
+            }
+            if (type.getKind() == ElementKind.RECORD) {
+                records.add(type);
+            } else if (type.getKind() == ElementKind.INTERFACE && annotation(type, GROUP_SEQUENCE) != null) {
+                sequences.add(type);
+            }
+        }
+        if (records.isEmpty()) {
+            return false;
+        }
+        generated = true;
+
+        Map<String, RecordModel> models = new LinkedHashMap<>();
+        for (TypeElement record : records) {
+            models.put(record.getQualifiedName().toString(), readRecord(record));
+        }
+        rejectUnsupportedCascades(models);
+
+        try {
+            List<RecordModel> supported = new ArrayList<>();
+            for (RecordModel model : models.values()) {
+                if (model.unsupported() != null) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                                                             model.simpleName() + " is validated by the provider: " + model.unsupported());
+                    continue;
+                }
+                write(packageName + "." + model.validatorName(), ValidatorWriter.writeValidator(packageName, model));
+                supported.add(model);
+            }
+            write(packageName + "." + REGISTRY_NAME, ValidatorWriter.writeRegistry(packageName, supported, readSequences(sequences)));
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot generate record validators: " + e);
+        }
+        return false;
+    }
+
+    private RecordModel readRecord(TypeElement record) {
+        String qualifiedName = record.getQualifiedName().toString();
+        String simpleName = record.getSimpleName().toString();
+        List<PropertyModel> properties = new ArrayList<>();
+        RecordModel model = new RecordModel(qualifiedName, simpleName, properties, null);
+
+        for (AnnotationMirror mirror : record.getAnnotationMirrors()) {
+            if (isConstraint(mirror)) {
+                return model.withUnsupported("class-level constraint " + annotationName(mirror));
+            }
+            if (annotationName(mirror).equals(GROUP_SEQUENCE)) {
+                return model.withUnsupported("redefines the default group sequence");
+            }
+        }
+
+        try {
+            for (Element member : record.getEnclosedElements()) {
+                if (member.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                if (member.getKind() == ElementKind.FIELD) {
+                    // Record component annotations that apply to fields are the ones the provider validates
+                    VariableElement field = (VariableElement) member;
+                    String name = field.getSimpleName().toString();
+                    readProperty(name, name + "()", field, field.asType(), properties);
+                } else if (member.getKind() == ElementKind.METHOD) {
+                    ExecutableElement method = (ExecutableElement) member;
+                    String property = getterProperty(method);
+                    if (property != null) {
+                        readProperty(property, method.getSimpleName() + "()", method, method.getReturnType(), properties);
+                    }
+                }
+            }
+        } catch (UnsupportedException e) {
+            return model.withUnsupported(e.getMessage());
+        }
+        return model;
+    }
+
+    private void readProperty(String name, String accessor, Element element, TypeMirror type, List<PropertyModel> properties) {
+        List<ConstraintModel> constraints = new ArrayList<>();
+        boolean cascaded = false;
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String annotation = annotationName(mirror);
+            if (annotation.equals(VALID)) {
+                cascaded = true;
+            } else if (annotation.equals(CONVERT_GROUP)) {
+                throw new UnsupportedException("group conversion on " + name);
+            } else if (isConstraint(mirror)) {
+                constraints.add(readConstraint(name, mirror, type));
+            }
+        }
+        checkTypeArguments(name, type);
+
+        String cascadedRecord = null;
+        if (cascaded) {
+            Element target = type.getKind() == TypeKind.DECLARED ? ((DeclaredType) type).asElement() : null;
+            if (target == null || target.getKind() != ElementKind.RECORD) {
+                throw new UnsupportedException("@Valid on " + name + " does not refer to a record");
+            }
+            cascadedRecord = ((TypeElement) target).getQualifiedName().toString();
+        }
+
+        if (!constraints.isEmpty() || cascadedRecord != null) {
+            properties.add(new PropertyModel(name, accessor, typeName(type), category(type), constraints, cascadedRecord));
+        }
+    }
+
+    private ConstraintModel readConstraint(String property, AnnotationMirror mirror, TypeMirror type) {
+        ConstraintKind kind = ConstraintKind.forAnnotation(annotationName(mirror));
+        if (kind == null) {
+            throw new UnsupportedException("constraint " + annotationName(mirror) + " on " + property);
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils()
+                        .getElementValuesWithDefaults(mirror).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+
+        PropertyModel.ValueCategory category = category(type);
+        Map<String, Long> attributes = new LinkedHashMap<>();
+        switch (kind) {
+            case NOT_NULL:
+                break;
+            case NOT_BLANK:
+                requireCategory(property, kind, category, PropertyModel.ValueCategory.CHAR_SEQUENCE);
+                break;
+            case EMAIL:
+                requireCategory(property, kind, category, PropertyModel.ValueCategory.CHAR_SEQUENCE);
+                if (!".*".equals(values.get("regexp")) || !((List<?>) values.get("flags")).isEmpty()) {
+                    throw new UnsupportedException("@Email with a regular expression on " + property);
+                }
+                break;
+            case SIZE:
+                requireCategory(property, kind, category, PropertyModel.ValueCategory.CHAR_SEQUENCE,
+                                PropertyModel.ValueCategory.COLLECTION, PropertyModel.ValueCategory.MAP);
+                attributes.put("min", ((Number) values.get("min")).longValue());
+                attributes.put("max", ((Number) values.get("max")).longValue());
+                break;
+            case MIN:
+                requireCategory(property, kind, category, PropertyModel.ValueCategory.INTEGRAL_PRIMITIVE,
+                                PropertyModel.ValueCategory.INTEGRAL_BOXED);
+                attributes.put("value", ((Number) values.get("value")).longValue());
+                break;
+        }
+
+        List<String> groups = new ArrayList<>();
+        for (Object group : (List<?>) values.get("groups")) {
+            groups.add(qualifiedName((TypeMirror) ((AnnotationValue) group).getValue()));
+        }
+        if (groups.isEmpty()) {
+            groups.add(DEFAULT_GROUP);
+        }
+
+        checkTemplate(property, kind, (String) values.get("message"));
+        return new ConstraintModel(kind, groups, attributes);
+    }
+
+    /**
+     * The generated validators have the factory's interpolator resolve messages at run time, from
+     * the constraint's default template or a literal message. Templates with expressions or other
+     * parameters are left to the provider.
+     */
+    private static void checkTemplate(String property, ConstraintKind kind, String template) {
+        if (!template.equals(kind.defaultTemplate())
+            && (template.indexOf('{') >= 0 || template.indexOf('$') >= 0 || template.indexOf('\\') >= 0)) {
+            throw new UnsupportedException("message template \"" + template + "\" on " + property);
+        }
+    }
+
+    private void checkTypeArguments(String property, TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return;
+        }
+        for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+            for (AnnotationMirror mirror : argument.getAnnotationMirrors()) {
+                if (isConstraint(mirror) || annotationName(mirror).equals(VALID)) {
+                    throw new UnsupportedException("container element constraint on " + property);
+                }
+            }
+            checkTypeArguments(property, argument);
+        }
+    }
+
+    private static void requireCategory(String property, ConstraintKind kind, PropertyModel.ValueCategory category,
+                                        PropertyModel.ValueCategory... allowed) {
+        for (PropertyModel.ValueCategory candidate : allowed) {
+            if (candidate == category) {
+                return;
+            }
+        }
+        throw new UnsupportedException(kind.annotationType() + " on " + category + " property " + property);
+    }
+
+    /**
+     * @return The raw type name to declare the value with, without the type annotations that
+     *         record components propagate to their types
+     */
+    private String typeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            return qualifiedName(processingEnv.getTypeUtils().erasure(type));
+        }
+        return "java.lang.Object";
+    }
+
+    private PropertyModel.ValueCategory category(TypeMirror type) {
+        switch (type.getKind()) {
+            case INT:
+            case LONG:
+            case SHORT:
+            case BYTE:
+                return PropertyModel.ValueCategory.INTEGRAL_PRIMITIVE;
+            case DECLARED:
+                break;
+            default:
+                return type.getKind().isPrimitive() ? PropertyModel.ValueCategory.OTHER_PRIMITIVE : PropertyModel.ValueCategory.OTHER;
+        }
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+        TypeMirror erased = types.erasure(type);
+        if (types.isAssignable(erased, types.erasure(elements.getTypeElement("java.lang.CharSequence").asType()))) {
+            return PropertyModel.ValueCategory.CHAR_SEQUENCE;
+        }
+        if (types.isAssignable(erased, types.erasure(elements.getTypeElement("java.util.Collection").asType()))) {
+            return PropertyModel.ValueCategory.COLLECTION;
+        }
+        if (types.isAssignable(erased, types.erasure(elements.getTypeElement("java.util.Map").asType()))) {
+            return PropertyModel.ValueCategory.MAP;
+        }
+        switch (erased.toString()) {
+            case "java.lang.Integer":
+            case "java.lang.Long":
+            case "java.lang.Short":
+            case "java.lang.Byte":
+                return PropertyModel.ValueCategory.INTEGRAL_BOXED;
+            default:
+                return PropertyModel.ValueCategory.OTHER;
+        }
+    }
+
+    /**
+     * Cascading into a record the processor cannot handle means the cascading record needs the
+     * provider as well, so unsupported records are propagated until nothing changes.
+     */
+    private static void rejectUnsupportedCascades(Map<String, RecordModel> models) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<String, RecordModel> entry : models.entrySet()) {
+                RecordModel model = entry.getValue();
+                if (model.unsupported() != null) {
+                    continue;
+                }
+                for (PropertyModel property : model.properties()) {
+                    String cascaded = property.cascadedRecord();
+                    if (cascaded == null) {
+                        continue;
+                    }
+                    RecordModel target = models.get(cascaded);
+                    if (target == null || target.unsupported() != null) {
+                        entry.setValue(model.withUnsupported("cascades to " + cascaded + ", which is validated by the provider"));
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Read the group sequences of the package, expanding sequences nested within them
+     */
+    private Map<String, List<String>> readSequences(List<TypeElement> sequenceTypes) {
+        Map<String, List<String>> declared = new LinkedHashMap<>();
+        for (TypeElement type : sequenceTypes) {
+            List<String> groups = new ArrayList<>();
+            for (Object group : (List<?>) annotationValue(annotation(type, GROUP_SEQUENCE), "value")) {
+                groups.add(qualifiedName((TypeMirror) ((AnnotationValue) group).getValue()));
+            }
+            declared.put(type.getQualifiedName().toString(), groups);
+        }
+
+        Map<String, List<String>> expanded = new LinkedHashMap<>();
+        for (String sequence : declared.keySet()) {
+            List<String> groups = new ArrayList<>();
+            expand(sequence, declared, groups, 0);
+            expanded.put(sequence, groups);
+        }
+        return expanded;
+    }
+
+    private static void expand(String sequence, Map<String, List<String>> declared, List<String> groups, int depth) {
+        if (depth > declared.size()) {
+            throw new IllegalStateException("Cyclic group sequence " + sequence);
+        }
+        for (String group : declared.get(sequence)) {
+            if (declared.containsKey(group)) {
+                expand(group, declared, groups, depth + 1);
+            } else {
+                groups.add(group);
+            }
+        }
+    }
+
+    /**
+     * @return The JavaBeans property name of a getter, or null if the method is not a getter
+     */
+    private static String getterProperty(ExecutableElement method) {
+        if (!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+            return null;
+        }
+        String name = method.getSimpleName().toString();
+        if (name.startsWith("get") && name.length() > 3) {
+            return decapitalize(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2 && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+            return decapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private void write(String qualifiedName, String source) throws IOException {
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    private static boolean isConstraint(AnnotationMirror mirror) {
+        return annotation(mirror.getAnnotationType().asElement(), CONSTRAINT) != null;
+    }
+
+    private static AnnotationMirror annotation(Element element, String annotationType) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (annotationName(mirror).equals(annotationType)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static Object annotationValue(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return List.of();
+    }
+
+    private static String annotationName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static String qualifiedName(TypeMirror type) {
+        return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * Thrown while reading a record that uses validation features the generated code does not support.
+     */
+    private static final class UnsupportedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.jakarta.validation.v31demo.processor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the source of the generated validators and of the registry that looks them up.
+ * <p>
+ * The generated code depends only on the <code>fastpath</code> runtime package of the demo
+ * application and on the constraint annotation types named in violations.
+ */
+final class ValidatorWriter {
+
+    private static final String RUNTIME_PACKAGE = "io.openliberty.jakarta.validation.v31demo.fastpath";
+
+    private static final String GENERATED = "@Generated(\"" + RecordValidatorProcessor.class.getName() + "\")\n";
+
+    private ValidatorWriter() {}
+
+    static String writeValidator(String packageName, RecordModel model) {
+        String record = model.simpleName();
+        String validator = model.validatorName();
+
+        // One constant per distinct set of groups, shared by the constraints declaring it
+        Map<List<String>, String> groupConstants = new LinkedHashMap<>();
+        boolean email = false;
+        for (PropertyModel property : model.properties()) {
+            for (ConstraintModel constraint : property.constraints()) {
+                groupConstants.computeIfAbsent(constraint.groups(), groups -> "GROUPS_" + groupConstants.size());
+                email |= constraint.kind() == ConstraintKind.EMAIL;
+            }
+        }
+        boolean constrained = !groupConstants.isEmpty();
+
+        StringBuilder out = new StringBuilder();
+        header(out, packageName);
+        out.append("import java.util.List;\n");
+        if (constrained) {
+            out.append("import java.util.Map;\n");
+            out.append("import java.util.Set;\n");
+        }
+        out.append('\n');
+        out.append("import javax.annotation.processing.Generated;\n\n");
+        if (email) {
+            out.append("import ").append(RUNTIME_PACKAGE).append(".EmailCheck;\n");
+        }
+        out.append("import ").append(RUNTIME_PACKAGE).append(".FastValidation;\n");
+        if (constrained) {
+            out.append("import ").append(RUNTIME_PACKAGE).append(".GeneratedConstraint;\n");
+        }
+        out.append("import ").append(RUNTIME_PACKAGE).append(".RecordValidator;\n");
+        out.append("import io.openliberty.jakarta.validation.v31demo.result.Violation;\n\n");
+
+        out.append("/**\n * Validator for {@link ").append(record).append("} generated from its constraint annotations.\n */\n");
+        out.append(GENERATED);
+        out.append("public final class ").append(validator).append(" implements RecordValidator<").append(record).append("> {\n\n");
+        out.append("    public static final ").append(validator).append(" INSTANCE = new ").append(validator).append("();\n\n");
+        for (Map.Entry<List<String>, String> constant : groupConstants.entrySet()) {
+            out.append("    private static final Set<Class<?>> ").append(constant.getValue()).append(" = Set.of(");
+            for (int i = 0; i < constant.getKey().size(); i++) {
+                out.append(i == 0 ? "" : ", ").append(constant.getKey().get(i)).append(".class");
+            }
+            out.append(");\n");
+        }
+        if (constrained) {
+            out.append('\n');
+        }
+
+        // One constant per constraint, naming it for the interpolation of its messages
+        int index = 0;
+        for (PropertyModel property : model.properties()) {
+            for (ConstraintModel constraint : property.constraints()) {
+                out.append("    private static final GeneratedConstraint CONSTRAINT_").append(index++)
+                                .append(" = new GeneratedConstraint(").append(record).append(".class, \"")
+                                .append(property.name()).append("\", ").append(constraint.kind().annotationType())
+                                .append(".class, ").append(groupConstants.get(constraint.groups())).append(", Map.of(");
+                int attribute = 0;
+                for (Map.Entry<String, Long> entry : constraint.attributes().entrySet()) {
+                    out.append(attribute++ == 0 ? "" : ", ").append('"').append(entry.getKey()).append("\", ")
+                                    .append(entry.getValue()).append('L');
+                }
+                out.append("));\n");
+            }
+        }
+        if (constrained) {
+            out.append('\n');
+        }
+        out.append("    private ").append(validator).append("() {}\n\n");
+
+        out.append("    @Override\n");
+        out.append("    public Class<").append(record).append("> type() {\n");
+        out.append("        return ").append(record).append(".class;\n");
+        out.append("    }\n\n");
+
+        out.append("    @Override\n");
+        out.append("    public void validateGroup(").append(record)
+                        .append(" record, Class<?> group, String path, FastValidation validation, List<Violation> violations) {\n");
+        index = 0;
+        for (PropertyModel property : model.properties()) {
+            index = writeProperty(out, property, groupConstants, index);
+        }
+        out.append("    }\n");
+        out.append("}\n");
+        return out.toString();
+    }
+
+    /**
+     * @param index The number of the property's first <code>CONSTRAINT_</code> constant
+     * @return The number of the next property's first constant
+     */
+    private static int writeProperty(StringBuilder out, PropertyModel property, Map<List<String>, String> groupConstants,
+                                     int index) {
+        out.append("        {\n");
+        out.append("            ").append(property.type()).append(" value = record.").append(property.accessor()).append(";\n");
+        for (ConstraintModel constraint : property.constraints()) {
+            String groups = groupConstants.get(constraint.groups());
+            out.append("            if (FastValidation.appliesTo(group, ").append(groups).append(") && ")
+                            .append(invalid(property, constraint)).append(") {\n");
+            out.append("                violations.add(new Violation(FastValidation.path(path, \"").append(property.name())
+                            .append("\"), validation.message(CONSTRAINT_").append(index++).append(", value), ")
+                            .append(constraint.kind().annotationType()).append(".class, value, ").append(groups).append("));\n");
+            out.append("            }\n");
+        }
+        if (property.cascadedRecord() != null) {
+            String nested = property.cascadedRecord();
+            String nestedValidator = nested.substring(nested.lastIndexOf('.') + 1) + "GeneratedValidator";
+            out.append("            if (value != null) {\n");
+            out.append("                ").append(nestedValidator).append(".INSTANCE.validateGroup(value, group, FastValidation.path(path, \"")
+                            .append(property.name()).append("\"), validation, violations);\n");
+            out.append("            }\n");
+        }
+        out.append("        }\n");
+        return index;
+    }
+
+    /**
+     * @return The expression that is true when the value violates the constraint
+     */
+    private static String invalid(PropertyModel property, ConstraintModel constraint) {
+        boolean primitive = property.category() == PropertyModel.ValueCategory.INTEGRAL_PRIMITIVE
+                            || property.category() == PropertyModel.ValueCategory.OTHER_PRIMITIVE;
+        switch (constraint.kind()) {
+            case NOT_NULL:
+                return primitive ? "false" : "value == null";
+            case NOT_BLANK:
+                return "!FastValidation.notBlank(value)";
+            case EMAIL:
+                return "!EmailCheck.isValid(value)";
+            case SIZE:
+                String size;
+                switch (property.category()) {
+                    case CHAR_SEQUENCE:
+                        size = "value.length()";
+                        break;
+                    default:
+                        size = "value.size()";
+                        break;
+                }
+                return "value != null && (" + size + " < " + constraint.attribute("min") + " || " + size + " > "
+                       + constraint.attribute("max") + ")";
+            case MIN:
+                String comparison = "value < " + constraint.attribute("value") + "L";
+                return primitive ? comparison : "value != null && " + comparison;
+            default:
+                throw new IllegalArgumentException(constraint.kind().toString());
+        }
+    }
+
+    static String writeRegistry(String packageName, List<RecordModel> models, Map<String, List<String>> sequences) {
+        StringBuilder out = new StringBuilder();
+        header(out, packageName);
+        out.append("import javax.annotation.processing.Generated;\n\n");
+        out.append("import ").append(RUNTIME_PACKAGE).append(".RecordValidator;\n\n");
+
+        out.append("/**\n * The validators and group sequences generated for this package.\n */\n");
+        out.append(GENERATED);
+        out.append("public final class ").append(RecordValidatorProcessor.REGISTRY_NAME).append(" {\n\n");
+
+        int index = 0;
+        for (List<String> groups : sequences.values()) {
+            out.append("    private static final Class<?>[] SEQUENCE_").append(index++).append(" = { ");
+            for (int i = 0; i < groups.size(); i++) {
+                out.append(i == 0 ? "" : ", ").append(groups.get(i)).append(".class");
+            }
+            out.append(" };\n");
+        }
+        if (!sequences.isEmpty()) {
+            out.append('\n');
+        }
+        out.append("    private ").append(RecordValidatorProcessor.REGISTRY_NAME).append("() {}\n\n");
+
+        out.append("    /**\n");
+        out.append("     * @return The generated validator for the record type, or null if the provider must validate it\n");
+        out.append("     */\n");
+        out.append("    public static RecordValidator<?> forType(Class<?> type) {\n");
+        for (RecordModel model : models) {
+            out.append("        if (type == ").append(model.simpleName()).append(".class) {\n");
+            out.append("            return ").append(model.validatorName()).append(".INSTANCE;\n");
+            out.append("        }\n");
+        }
+        out.append("        return null;\n");
+        out.append("    }\n\n");
+
+        out.append("    /**\n");
+        out.append("     * @return The expanded groups of the group sequence, or null if the group is not a sequence.\n");
+        out.append("     *         The array is shared and must not be modified.\n");
+        out.append("     */\n");
+        out.append("    public static Class<?>[] groupSequence(Class<?> group) {\n");
+        index = 0;
+        for (String sequence : sequences.keySet()) {
+            out.append("        if (group == ").append(sequence).append(".class) {\n");
+            out.append("            return SEQUENCE_").append(index++).append(";\n");
+            out.append("        }\n");
+        }
+        out.append("        return null;\n");
+        out.append("    }\n");
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String packageName) {
+        out.append("package ").append(packageName).append(";\n\n");
+    }
+}